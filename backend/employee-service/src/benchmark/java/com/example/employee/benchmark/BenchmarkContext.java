@@ -0,0 +1,82 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.EmployeeServiceApplication;
+import com.example.employee.dto.EmployeeDTO;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Starts the service against a private in-memory H2 database and builds synthetic
+ * freelancer records whose unique keys never collide.
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String... overrides) {
+        return start(WebApplicationType.NONE, overrides);
+    }
+
+    static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String... overrides) {
+        List<String> args = new ArrayList<>(Arrays.asList(
+                "--spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.show-sql=false",
+                "--spring.cloud.config.enabled=false",
+                "--employee.config-snapshot.enabled=false",
+                "--spring.sleuth.enabled=false",
+                "--eureka.client.enabled=false",
+                "--logging.level.root=WARN"));
+        args.addAll(Arrays.asList(overrides));
+        return new SpringApplicationBuilder(EmployeeServiceApplication.class)
+                .web(webApplicationType)
+                .logStartupInfo(false)
+                .run(args.toArray(new String[0]));
+    }
+
+    static EmployeeDTO employee(long sequence, String skills) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setFirstName("Bench");
+        dto.setLastName("Freelancer");
+        dto.setEmail("bench" + sequence + "@example.com");
+        dto.setPhoneNumber(String.format("9%09d", sequence % 1_000_000_000L));
+        dto.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        dto.setGender("Other");
+        dto.setDesignationId(1);
+        dto.setHireDate(LocalDate.of(2023, 1, 1));
+        dto.setSalary(BigDecimal.valueOf(50_000));
+        dto.setCompanyId((int) (sequence % 10));
+        dto.setBankName("Bench Bank");
+        dto.setBankAccountNumber(String.valueOf(10_000_000_000L + sequence));
+        dto.setIfscCode("BNCH0000001");
+        dto.setPanNumber(panNumber(sequence));
+        dto.setDomain("Web Development");
+        dto.setStatus("Active");
+        dto.setSkillsString(skills);
+        return dto;
+    }
+
+    /** Maps a sequence number onto the AAAAA9999A PAN format. */
+    private static String panNumber(long sequence) {
+        char[] letters = new char[5];
+        long prefix = sequence / 10_000;
+        for (int i = 4; i >= 0; i--) {
+            letters[i] = (char) ('A' + prefix % 26);
+            prefix /= 26;
+        }
+        return new String(letters) + String.format("%04d", sequence % 10_000) + "Z";
+    }
+}
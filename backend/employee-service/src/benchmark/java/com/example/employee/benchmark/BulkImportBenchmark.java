@@ -0,0 +1,89 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.dto.ImportReportDTO;
+import com.example.employee.service.EmployeeImportService;
+import com.example.employee.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records per second for the looped single-create path versus the batched bulk import.
+ * Both sides go through the service layer, so HTTP overhead of the single POSTs is not
+ * even counted against them. The records carry no skills, since createEmployee does not
+ * write employee_skills rows and both sides must write the same rows.
+ * <p>
+ * Runs on in-memory H2, where a JDBC batch saves little over single statements; MySQL
+ * with rewriteBatchedStatements, as deployed, gains far more from batching.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class BulkImportBenchmark {
+
+    private static final int RECORDS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private EmployeeImportService importService;
+    private ObjectMapper objectMapper;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start();
+        employeeService = context.getBean(EmployeeService.class);
+        importService = context.getBean(EmployeeImportService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        System.out.printf("%nBulkImportBenchmark: in-memory H2, not MySQL with rewriteBatchedStatements;"
+                + " compare the two paths with each other, not with production%n");
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void singleCreates() {
+        for (int i = 0; i < RECORDS; i++) {
+            employeeService.createEmployee(BenchmarkContext.employee(sequence++, null));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public ImportReportDTO bulkImport() throws IOException {
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        for (int i = 0; i < RECORDS; i++) {
+            EmployeeDTO dto = BenchmarkContext.employee(sequence++, null);
+            ndjson.write(objectMapper.writeValueAsBytes(dto));
+            ndjson.write('\n');
+        }
+        return importService.importEmployees(new ByteArrayInputStream(ndjson.toByteArray()),
+                MediaType.parseMediaType(EmployeeImportService.APPLICATION_NDJSON_VALUE));
+    }
+}
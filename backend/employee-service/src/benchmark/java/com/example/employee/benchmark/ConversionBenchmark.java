@@ -0,0 +1,60 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.entity.Employee;
+import com.example.employee.entity.Skills;
+import com.example.employee.mapper.EmployeeMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO conversion as done by EmployeeService.getEmployeeById on a cache miss:
+ * EmployeeMapper.toDto copies the fields and joins the sorted skill names from the
+ * initialized collection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ConversionBenchmark {
+
+    @Param({"0", "5", "50"})
+    private int skills;
+
+    private final EmployeeMapper mapper = new EmployeeMapper();
+    private Employee employee;
+
+    @Setup
+    public void setUp() {
+        employee = mapper.toEntity(BenchmarkContext.employee(7, null));
+        employee.setEmployeeId(7L);
+        Set<Skills> skillSet = new HashSet<>();
+        for (int i = 0; i < skills; i++) {
+            Skills skill = new Skills();
+            skill.setSkillId((long) i);
+            skill.setSkillName("Skill " + i);
+            skillSet.add(skill);
+        }
+        employee.setSkills(skillSet);
+    }
+
+    @Benchmark
+    public EmployeeDTO convertToDto() {
+        return mapper.toDto(employee);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.entity.Employee;
+import com.example.employee.mapper.EmployeeMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EmployeeMapper against the BeanUtils.copyProperties calls it replaced, in both
+ * directions. No Spring context or database is involved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EmployeeMapperBenchmark {
+
+    private static final List<String> SKILLS = List.of("AWS", "Docker", "Kubernetes");
+
+    private final EmployeeMapper mapper = new EmployeeMapper();
+    private EmployeeDTO dto;
+    private Employee employee;
+
+    @Setup
+    public void setUp() {
+        dto = BenchmarkContext.employee(42, String.join(", ", SKILLS));
+        employee = mapper.toEntity(dto);
+        employee.setEmployeeId(42L);
+        employee.setCreatedAt(LocalDateTime.now());
+        employee.setUpdatedAt(LocalDateTime.now());
+    }
+
+    @Benchmark
+    public EmployeeDTO beanUtilsToDto() {
+        EmployeeDTO result = new EmployeeDTO();
+        BeanUtils.copyProperties(employee, result);
+        result.setSkillsString(String.join(", ", SKILLS));
+        return result;
+    }
+
+    @Benchmark
+    public EmployeeDTO mapperToDto() {
+        return mapper.toDto(employee, SKILLS);
+    }
+
+    @Benchmark
+    public Employee beanUtilsUpdateEntity() {
+        Employee target = new Employee();
+        BeanUtils.copyProperties(dto, target, "employeeId", "createdAt", "updatedAt");
+        return target;
+    }
+
+    @Benchmark
+    public Employee mapperUpdateEntity() {
+        Employee target = new Employee();
+        mapper.updateEntity(dto, target);
+        return target;
+    }
+}
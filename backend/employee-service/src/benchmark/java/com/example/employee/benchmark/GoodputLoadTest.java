@@ -0,0 +1,196 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.service.EmployeeImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop overload test: offers a fixed request rate per step, well past saturation,
+ * once with the adaptive concurrency limit off and once with it on, and reports goodput,
+ * the successful responses that arrived within the caller's deadline, per second. The
+ * connection pool is cut to {@value #POOL_SIZE} so the database is the bottleneck, as it
+ * is in production.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec@goodput -Dgoodput.args="rates=50,100,200,400,800 step=10s deadline=1s"
+ * </pre>
+ *
+ * The mix is 80% keyset pages, 10% single reads and 10% creates. A step sends rate x step
+ * requests on a fixed schedule, whatever the response times, like independent callers do.
+ * Results go to target/goodput-result.json.
+ */
+public final class GoodputLoadTest {
+
+    private static final int POOL_SIZE = 4;
+    private static final int EMPLOYEES = 5_000;
+
+    private final HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final AtomicLong sequence = new AtomicLong(1_000_000);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final List<Integer> rates = new ArrayList<>(List.of(50, 100, 200, 400, 800));
+    private Duration step = Duration.ofSeconds(10);
+    private Duration deadline = Duration.ofSeconds(1);
+
+    private GoodputLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        GoodputLoadTest test = new GoodputLoadTest();
+        for (String arg : args) {
+            if (arg.startsWith("rates=")) {
+                test.rates.clear();
+                Arrays.stream(arg.substring("rates=".length()).split(",")).map(Integer::valueOf).forEach(test.rates::add);
+            } else if (arg.startsWith("step=")) {
+                test.step = Duration.parse("PT" + arg.substring("step=".length()));
+            } else if (arg.startsWith("deadline=")) {
+                test.deadline = Duration.parse("PT" + arg.substring("deadline=".length()));
+            }
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("limit-off", test.run(false));
+        result.put("limit-on", test.run(true));
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(Paths.get("target/goodput-result.json").toFile(), result);
+        System.out.println("Results written to target/goodput-result.json");
+        System.exit(0);
+    }
+
+    private List<Map<String, Object>> run(boolean limitEnabled) throws Exception {
+        ConfigurableApplicationContext context = BenchmarkContext.start(WebApplicationType.SERVLET,
+                "--server.port=0",
+                "--employee.concurrency-limit.enabled=" + limitEnabled,
+                "--employee.dto-cache.enabled=false",
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE);
+        try {
+            seed(context);
+            String base = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort() + "/api/employees";
+            System.out.printf("%nConcurrency limit %s, deadline %d ms%n", limitEnabled ? "on" : "off", deadline.toMillis());
+            System.out.printf("%10s %10s %10s %10s %10s %10s%n", "offered/s", "goodput/s", "shed/s", "late/s", "p50 ms", "p99 ms");
+            // Unmeasured warm-up at the lowest rate
+            offer(base, rates.get(0), Duration.ofSeconds(5));
+            List<Map<String, Object>> steps = new ArrayList<>();
+            for (int rate : rates) {
+                Map<String, Object> stepResult = offer(base, rate, step);
+                steps.add(stepResult);
+                System.out.printf("%10d %10.1f %10.1f %10.1f %10d %10d%n", rate, stepResult.get("goodputPerSecond"),
+                        stepResult.get("shedPerSecond"), stepResult.get("latePerSecond"),
+                        stepResult.get("p50Ms"), stepResult.get("p99Ms"));
+                // Let the backlog drain so steps do not bleed into each other
+                Thread.sleep(deadline.toMillis() * 2);
+            }
+            return steps;
+        } finally {
+            context.close();
+        }
+    }
+
+    private void seed(ConfigurableApplicationContext context) throws Exception {
+        ObjectMapper mapper = context.getBean(ObjectMapper.class);
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            ndjson.write(mapper.writeValueAsBytes(BenchmarkContext.employee(i, null)));
+            ndjson.write('\n');
+        }
+        context.getBean(EmployeeImportService.class).importEmployees(new ByteArrayInputStream(ndjson.toByteArray()),
+                MediaType.parseMediaType(EmployeeImportService.APPLICATION_NDJSON_VALUE));
+    }
+
+    private Map<String, Object> offer(String base, int rate, Duration duration) throws Exception {
+        long total = rate * duration.toSeconds();
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        AtomicInteger good = new AtomicInteger();
+        AtomicInteger shed = new AtomicInteger();
+        AtomicInteger late = new AtomicInteger();
+        AtomicInteger outstanding = new AtomicInteger();
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long sendAt = start + i * interval;
+            long wait = sendAt - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long sent = System.nanoTime();
+            outstanding.incrementAndGet();
+            http.sendAsync(request(base), HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                long elapsed = System.nanoTime() - sent;
+                if (error == null && response.statusCode() / 100 == 2 && elapsed <= deadline.toNanos()) {
+                    good.incrementAndGet();
+                    latencies.add(elapsed);
+                } else if (error == null && response.statusCode() == 503) {
+                    shed.incrementAndGet();
+                } else {
+                    // Timed out at the caller, answered after the deadline, or failed
+                    late.incrementAndGet();
+                }
+                outstanding.decrementAndGet();
+            });
+        }
+        long waitUntil = System.nanoTime() + deadline.toNanos() + TimeUnit.SECONDS.toNanos(1);
+        while (outstanding.get() > 0 && System.nanoTime() < waitUntil) {
+            Thread.sleep(10);
+        }
+        late.addAndGet(outstanding.get());
+
+        double seconds = duration.toSeconds();
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("offeredPerSecond", rate);
+        result.put("goodputPerSecond", good.get() / seconds);
+        result.put("shedPerSecond", shed.get() / seconds);
+        result.put("latePerSecond", late.get() / seconds);
+        result.put("p50Ms", percentileMillis(sorted, 0.50));
+        result.put("p99Ms", percentileMillis(sorted, 0.99));
+        return result;
+    }
+
+    private HttpRequest request(String base) throws Exception {
+        HttpRequest.Builder builder;
+        int pick = ThreadLocalRandom.current().nextInt(10);
+        if (pick == 0) {
+            builder = HttpRequest.newBuilder(URI.create(base))
+                    .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(
+                            objectMapper.writeValueAsBytes(BenchmarkContext.employee(sequence.incrementAndGet(), null))));
+        } else if (pick == 1) {
+            builder = HttpRequest.newBuilder(URI.create(base + "/" + (1 + ThreadLocalRandom.current().nextInt(EMPLOYEES))));
+        } else {
+            builder = HttpRequest.newBuilder(URI.create(base + "/page?size=50&sort=lastName&domain=Web%20Development"));
+        }
+        return builder.timeout(deadline).build();
+    }
+
+    private static long percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return -1;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)]);
+    }
+}
@@ -0,0 +1,479 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.entity.Employee;
+import com.example.employee.entity.Skills;
+import com.example.employee.mapper.EmployeeMapper;
+import com.example.employee.repository.SkillsRepository;
+import com.example.employee.service.EmployeeImportService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test of the EmployeeController endpoints against a synthetic population,
+ * compared with a stored baseline so a release can be held back on a regression.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec@load-test -Dloadtest.args="employees=100000 rate=100 duration=60s"
+ * mvn -Pbenchmark test-compile exec:exec@load-test -Dloadtest.args="update-baseline"
+ * </pre>
+ *
+ * The population, {@code employees} freelancers with 1-5 of {@code skills} skills each
+ * spread over {@code companies} companies and {@value #DOMAIN_COUNT} domains, reporting
+ * up a manager tree {@code fanout} wide, and the request sequence both come from
+ * {@code seed}, so two runs with the same arguments send the same requests. Requests go
+ * out at a fixed {@code rate} whatever the response times, and latency is measured from
+ * the scheduled send time, so a stalled server is not hidden by a stalled client.
+ *
+ * Per endpoint the test reports throughput, error rate and latency percentiles to
+ * target/load-test-result.json and compares them with {@code baseline}. It exits with 1 on
+ * a regression, 2 when the baseline was recorded with different arguments, and 0
+ * otherwise, including when there is no baseline yet.
+ */
+public final class MixedWorkloadLoadTest {
+
+    private static final String[] DOMAIN_NAMES = {
+            "Web Development", "Mobile Development", "Data Science", "UX Design", "DevOps",
+            "Cloud Architecture", "Cyber Security", "Machine Learning", "Game Development", "Embedded Systems",
+            "Blockchain", "Quality Assurance", "Technical Writing", "Database Administration", "Networking",
+            "ERP Consulting", "Digital Marketing", "Video Production", "Data Engineering", "Site Reliability"};
+    private static final int DOMAIN_COUNT = 20;
+    private static final int SEED_CHUNK = 5_000;
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final String INSERT_SKILL = "insert into skills (skill_name, category, created_at) values (?, ?, ?)";
+
+    private final HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final Map<String, Integer> mix = new LinkedHashMap<>();
+    private int employees = 100_000;
+    private int skills = 500;
+    private int companies = 1_000;
+    private int fanout = 4;
+    private int rate = 100;
+    private Duration duration = Duration.ofSeconds(60);
+    private Duration warmup = Duration.ofSeconds(15);
+    private Duration timeout = Duration.ofSeconds(5);
+    private long seed = 42;
+    private Path baseline = Paths.get("src/benchmark/load-test-baseline.json");
+    private boolean updateBaseline;
+    private double latencyTolerance = 0.25;
+    private double throughputTolerance = 0.05;
+    private double errorTolerance = 0.01;
+
+    private long[] ids;
+    private String[] skillNames;
+    private String base;
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentLinkedQueue<Long> created = new ConcurrentLinkedQueue<>();
+
+    private MixedWorkloadLoadTest() {
+        mix.put("by-id", 30);
+        mix.put("list", 20);
+        mix.put("by-company", 10);
+        mix.put("by-manager", 10);
+        mix.put("by-domain", 3);
+        mix.put("by-skills", 7);
+        mix.put("create", 8);
+        mix.put("update", 8);
+        mix.put("delete", 4);
+    }
+
+    public static void main(String[] args) throws Exception {
+        MixedWorkloadLoadTest test = new MixedWorkloadLoadTest();
+        for (String arg : args) {
+            test.parse(arg);
+        }
+        System.exit(test.run());
+    }
+
+    private void parse(String arg) {
+        if (arg.equals("update-baseline")) {
+            updateBaseline = true;
+            return;
+        }
+        int separator = arg.indexOf('=');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Expected name=value: " + arg);
+        }
+        String name = arg.substring(0, separator);
+        String value = arg.substring(separator + 1);
+        switch (name) {
+            case "employees": employees = Integer.parseInt(value); break;
+            case "skills": skills = Integer.parseInt(value); break;
+            case "companies": companies = Integer.parseInt(value); break;
+            case "fanout": fanout = Integer.parseInt(value); break;
+            case "rate": rate = Integer.parseInt(value); break;
+            case "duration": duration = Duration.parse("PT" + value); break;
+            case "warmup": warmup = Duration.parse("PT" + value); break;
+            case "timeout": timeout = Duration.parse("PT" + value); break;
+            case "seed": seed = Long.parseLong(value); break;
+            case "baseline": baseline = Paths.get(value); break;
+            case "latency-tolerance": latencyTolerance = Double.parseDouble(value); break;
+            case "throughput-tolerance": throughputTolerance = Double.parseDouble(value); break;
+            case "error-tolerance": errorTolerance = Double.parseDouble(value); break;
+            case "mix":
+                // mix=by-id:50,list:50 replaces the whole mix
+                mix.clear();
+                for (String entry : value.split(",")) {
+                    String[] weight = entry.split(":");
+                    mix.put(weight[0], Integer.valueOf(weight[1]));
+                }
+                break;
+            default: throw new IllegalArgumentException("Unknown argument: " + name);
+        }
+    }
+
+    private int run() throws Exception {
+        ConfigurableApplicationContext context = BenchmarkContext.start(WebApplicationType.SERVLET,
+                "--server.port=0",
+                "--employee.seed-data.enabled=false");
+        Map<String, Object> result = new LinkedHashMap<>();
+        try {
+            long seedStart = System.nanoTime();
+            seed(context);
+            System.out.printf("Seeded %d employees and %d skills in %d s%n", employees, skills,
+                    TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - seedStart));
+            base = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort() + "/api/employees";
+
+            Random requests = new Random(seed + 1);
+            offer(requests, warmup, null);
+            Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+            mix.keySet().forEach(name -> endpoints.put(name, new Endpoint()));
+            offer(requests, duration, endpoints);
+
+            result.put("config", config());
+            Map<String, Object> measured = new LinkedHashMap<>();
+            endpoints.forEach((name, endpoint) -> measured.put(name, endpoint.summary(duration)));
+            result.put("endpoints", measured);
+        } finally {
+            context.close();
+        }
+
+        ObjectMapper writer = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        writer.writeValue(Paths.get("target/load-test-result.json").toFile(), result);
+        print(result);
+        System.out.println("Results written to target/load-test-result.json");
+
+        if (updateBaseline) {
+            writer.writeValue(baseline.toFile(), result);
+            System.out.println("Baseline updated: " + baseline);
+            return 0;
+        }
+        if (!Files.isRegularFile(baseline)) {
+            System.out.println("No baseline at " + baseline + ", run with update-baseline to record one");
+            return 0;
+        }
+        // Through bytes, so numbers compare the same way as the ones read from the baseline
+        return compare(writer.readTree(writer.writeValueAsBytes(result)), writer.readTree(baseline.toFile()));
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        Random random = new Random(seed);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> skillRows = new ArrayList<>(skills);
+        for (int i = 0; i < skills; i++) {
+            skillRows.add(new Object[] {String.format("Skill%04d", i), "Category" + (i % 25), now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SKILL, skillRows);
+        List<Skills> skillEntities = context.getBean(SkillsRepository.class).findAll();
+        skillNames = skillEntities.stream().map(Skills::getSkillName).toArray(String[]::new);
+
+        // Employee i reports to employee (i - 1) / fanout, so managers are always inserted first
+        EmployeeMapper mapper = context.getBean(EmployeeMapper.class);
+        EmployeeImportService importService = context.getBean(EmployeeImportService.class);
+        ids = new long[employees];
+        List<Employee> chunk = new ArrayList<>(SEED_CHUNK);
+        int chunkStart = 0;
+        for (int i = 0; i < employees; i++) {
+            Employee employee = new Employee();
+            mapper.updateEntity(employee(i, i == 0 ? null : ids[(i - 1) / fanout], random), employee);
+            Set<Skills> employeeSkills = new HashSet<>();
+            int count = 1 + random.nextInt(5);
+            for (int j = 0; j < count; j++) {
+                employeeSkills.add(skillEntities.get(random.nextInt(skillEntities.size())));
+            }
+            employee.setSkills(employeeSkills);
+            chunk.add(employee);
+            // The next employee's manager must have an id, so near the root chunks stay small
+            if (chunk.size() == SEED_CHUNK || i == employees - 1 || i / fanout >= chunkStart) {
+                importService.insertAll(chunk);
+                for (int j = 0; j < chunk.size(); j++) {
+                    ids[chunkStart + j] = chunk.get(j).getEmployeeId();
+                }
+                chunkStart += chunk.size();
+                chunk = new ArrayList<>(SEED_CHUNK);
+            }
+        }
+        sequence.set(employees);
+    }
+
+    private EmployeeDTO employee(long sequence, Long managerId, Random random) {
+        EmployeeDTO dto = BenchmarkContext.employee(sequence, null);
+        dto.setManagerId(managerId);
+        dto.setCompanyId(random.nextInt(companies));
+        dto.setDomain(DOMAIN_NAMES[random.nextInt(DOMAIN_COUNT)]);
+        dto.setSalary(BigDecimal.valueOf(30_000 + random.nextInt(120_000)));
+        return dto;
+    }
+
+    private void offer(Random random, Duration period, Map<String, Endpoint> endpoints) throws Exception {
+        String[] names = mix.keySet().toArray(new String[0]);
+        int[] cumulative = new int[names.length];
+        int total = 0;
+        for (int i = 0; i < names.length; i++) {
+            total += mix.get(names[i]);
+            cumulative[i] = total;
+        }
+
+        long count = rate * period.toSeconds();
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        AtomicInteger outstanding = new AtomicInteger();
+        long start = System.nanoTime();
+        for (long i = 0; i < count; i++) {
+            int pick = random.nextInt(total);
+            int index = 0;
+            while (cumulative[index] <= pick) {
+                index++;
+            }
+            String name = names[index];
+            HttpRequest request = request(name, random);
+
+            long scheduled = start + i * interval;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = endpoints == null ? null : endpoints.get(name);
+            outstanding.incrementAndGet();
+            http.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).whenComplete((response, error) -> {
+                long elapsed = System.nanoTime() - scheduled;
+                if (error == null && response.statusCode() == 201) {
+                    rememberCreated(response.body());
+                }
+                if (endpoint != null) {
+                    endpoint.record(error == null ? response.statusCode() : 0, elapsed);
+                }
+                outstanding.decrementAndGet();
+            });
+        }
+        long waitUntil = System.nanoTime() + timeout.toNanos() + TimeUnit.SECONDS.toNanos(1);
+        while (outstanding.get() > 0 && System.nanoTime() < waitUntil) {
+            Thread.sleep(10);
+        }
+    }
+
+    private HttpRequest request(String name, Random random) throws Exception {
+        HttpRequest.Builder builder;
+        switch (name) {
+            case "by-id":
+                builder = HttpRequest.newBuilder(URI.create(base + "/" + ids[random.nextInt(ids.length)]));
+                break;
+            case "list":
+                builder = HttpRequest.newBuilder(URI.create(base + "/page?size=50&sort=lastName&companyId=" + random.nextInt(companies)));
+                break;
+            case "by-company":
+                builder = HttpRequest.newBuilder(URI.create(base + "/company/" + random.nextInt(companies)));
+                break;
+            case "by-manager":
+                // Only the first employees / fanout have reports
+                builder = HttpRequest.newBuilder(URI.create(base + "/manager/" + ids[random.nextInt(Math.max(1, ids.length / fanout))]));
+                break;
+            case "by-domain":
+                builder = HttpRequest.newBuilder(URI.create(base + "/freelancers/domain/" + encode(DOMAIN_NAMES[random.nextInt(DOMAIN_COUNT)])));
+                break;
+            case "by-skills":
+                builder = HttpRequest.newBuilder(URI.create(base + "/freelancers/skills/" + encode(skillNames[random.nextInt(skillNames.length)])));
+                break;
+            case "update": {
+                // Seeded rows only, with their own unique keys, so updates never collide with deletes or each other
+                int index = random.nextInt(ids.length);
+                EmployeeDTO dto = employee(index, index == 0 ? null : ids[(index - 1) / fanout], random);
+                builder = HttpRequest.newBuilder(URI.create(base + "/" + ids[index]))
+                        .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                        .PUT(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(dto)));
+                break;
+            }
+            case "delete": {
+                // Deletes what this run created, so the population stays the same size
+                Long createdId = created.poll();
+                if (createdId != null) {
+                    builder = HttpRequest.newBuilder(URI.create(base + "/" + createdId)).DELETE();
+                    break;
+                }
+                builder = create(random);
+                break;
+            }
+            case "create":
+                builder = create(random);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown endpoint in mix: " + name);
+        }
+        return builder.timeout(timeout).build();
+    }
+
+    private HttpRequest.Builder create(Random random) throws Exception {
+        EmployeeDTO dto = employee(sequence.getAndIncrement(), ids[random.nextInt(ids.length)], random);
+        return HttpRequest.newBuilder(URI.create(base))
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(dto)));
+    }
+
+    private void rememberCreated(byte[] body) {
+        try {
+            JsonNode id = objectMapper.readTree(body).get("employeeId");
+            if (id != null) {
+                created.add(id.asLong());
+            }
+        } catch (Exception ex) {
+            // Only costs a delete target
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private Map<String, Object> config() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("employees", employees);
+        config.put("skills", skills);
+        config.put("companies", companies);
+        config.put("fanout", fanout);
+        config.put("rate", rate);
+        config.put("durationSeconds", duration.toSeconds());
+        config.put("seed", seed);
+        config.put("mix", mix);
+        return config;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> result) {
+        System.out.printf("%n%-12s %8s %10s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "ok/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        ((Map<String, Map<String, Object>>) result.get("endpoints")).forEach((name, endpoint) ->
+                System.out.printf("%-12s %8d %10.1f %7.2f%% %9.1f %9.1f %9.1f %9.1f %9.1f%n", name,
+                        endpoint.get("requests"), endpoint.get("throughputPerSecond"),
+                        (double) endpoint.get("errorRate") * 100, endpoint.get("p50Ms"), endpoint.get("p90Ms"),
+                        endpoint.get("p99Ms"), endpoint.get("p999Ms"), endpoint.get("maxMs")));
+    }
+
+    private int compare(JsonNode current, JsonNode previous) {
+        if (!current.get("config").equals(previous.get("config"))) {
+            System.out.println("Baseline " + baseline + " was recorded with different arguments: " + previous.get("config"));
+            return 2;
+        }
+        List<String> regressions = new ArrayList<>();
+        current.get("endpoints").fields().forEachRemaining(entry -> {
+            JsonNode before = previous.get("endpoints").get(entry.getKey());
+            if (before == null) {
+                return;
+            }
+            JsonNode now = entry.getValue();
+            String name = entry.getKey();
+            // A 2 ms floor keeps sub-millisecond jitter from failing the run
+            for (String percentile : new String[] {"p50Ms", "p99Ms"}) {
+                double limit = Math.max(before.get(percentile).asDouble() * (1 + latencyTolerance),
+                        before.get(percentile).asDouble() + 2);
+                if (now.get(percentile).asDouble() > limit) {
+                    regressions.add(String.format("%s %s %.1f > %.1f", name, percentile, now.get(percentile).asDouble(), limit));
+                }
+            }
+            double throughput = before.get("throughputPerSecond").asDouble() * (1 - throughputTolerance);
+            if (now.get("throughputPerSecond").asDouble() < throughput) {
+                regressions.add(String.format("%s throughput %.1f/s < %.1f/s", name, now.get("throughputPerSecond").asDouble(), throughput));
+            }
+            double errorRate = before.get("errorRate").asDouble() + errorTolerance;
+            if (now.get("errorRate").asDouble() > errorRate) {
+                regressions.add(String.format("%s error rate %.2f%% > %.2f%%", name, now.get("errorRate").asDouble() * 100, errorRate * 100));
+            }
+        });
+        if (regressions.isEmpty()) {
+            System.out.println("No regression against " + baseline);
+            return 0;
+        }
+        System.out.println("Regressions against " + baseline + ":");
+        regressions.forEach(regression -> System.out.println("  " + regression));
+        return 1;
+    }
+
+    /** Outcomes of one endpoint. Status 0 stands for a timeout or connection failure. */
+    private static final class Endpoint {
+
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        void record(int status, long elapsedNanos) {
+            requests.increment();
+            statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+            if (status / 100 == 2) {
+                latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+            } else {
+                errors.increment();
+            }
+        }
+
+        Map<String, Object> summary(Duration duration) {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            long total = requests.sum();
+            summary.put("requests", total);
+            summary.put("throughputPerSecond", latencies.getTotalCount() / (double) duration.toSeconds());
+            summary.put("errorRate", total == 0 ? 0.0 : errors.sum() / (double) total);
+            summary.put("p50Ms", millis(latencies.getValueAtPercentile(50)));
+            summary.put("p90Ms", millis(latencies.getValueAtPercentile(90)));
+            summary.put("p99Ms", millis(latencies.getValueAtPercentile(99)));
+            summary.put("p999Ms", millis(latencies.getValueAtPercentile(99.9)));
+            summary.put("maxMs", millis(latencies.getMaxValue()));
+            Map<String, Long> byStatus = new TreeMap<>();
+            statuses.forEach((status, count) -> byStatus.put(status == 0 ? "timeout" : String.valueOf(status), count.sum()));
+            summary.put("statuses", byStatus);
+            return summary;
+        }
+
+        private static double millis(long micros) {
+            return Math.round(micros / 100.0) / 10.0;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.dto.EmployeeDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encode and decode cost of a list response in each negotiated format, with mappers set
+ * up like BinaryFormatsConfig's. Payload sizes, raw and gzipped, are printed once per
+ * trial. Rows get varied names, skills and salaries so back-references in Smile and gzip
+ * do not look better than they would on real data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PayloadFormatBenchmark {
+
+    private static final String[] SYLLABLES = {"an", "ja", "mi", "ro", "ke", "li", "sa", "to", "ve", "na",
+            "di", "pe", "ra", "vi", "ka", "lo", "su", "me", "ha", "ti", "jo", "el", "ar", "us"};
+    private static final String[] DOMAINS = {"Web Development", "Data Science", "Mobile Development",
+            "DevOps", "Design", "Machine Learning", "Cloud Infrastructure", "Security"};
+    private static final String[] SKILLS = {"AWS", "Angular", "Docker", "Go", "Java", "Kafka", "Kubernetes",
+            "Node.js", "Python", "React", "Redis", "Spring Boot", "Terraform", "TypeScript"};
+
+    public enum Format {
+        JSON, CBOR, SMILE
+    }
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    private Format format;
+
+    private EmployeeDTO[] employees;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                // As Spring Boot's JacksonAutoConfiguration does
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper mapper = switch (format) {
+            case JSON -> builder.build();
+            case CBOR -> builder.factory(new CBORFactory()).build();
+            case SMILE -> builder.factory(new SmileFactory()).build();
+        };
+        writer = mapper.writerFor(EmployeeDTO[].class);
+        reader = mapper.readerFor(EmployeeDTO[].class);
+
+        Random random = new Random(42);
+        employees = new EmployeeDTO[rows];
+        for (int i = 0; i < rows; i++) {
+            StringBuilder skills = new StringBuilder();
+            int first = random.nextInt(SKILLS.length - 3);
+            for (int s = first; s < first + 1 + random.nextInt(3); s++) {
+                skills.append(skills.length() == 0 ? "" : ", ").append(SKILLS[s]);
+            }
+            EmployeeDTO dto = BenchmarkContext.employee(i, skills.toString());
+            dto.setEmployeeId((long) i + 1);
+            dto.setFirstName(name(random));
+            dto.setLastName(name(random) + SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            dto.setEmail(dto.getFirstName().toLowerCase() + "." + dto.getLastName().toLowerCase() + i + "@example.com");
+            dto.setDomain(DOMAINS[random.nextInt(DOMAINS.length)]);
+            dto.setSalary(BigDecimal.valueOf(30_000 + random.nextInt(120_000), 2));
+            dto.setLinkedinUrl("https://linkedin.com/in/" + dto.getFirstName().toLowerCase() + i);
+            dto.setUpdatedAt(LocalDateTime.of(2026, 1, 1, 0, 0).plusSeconds(random.nextInt(10_000_000)));
+            dto.setVersion((long) random.nextInt(5));
+            employees[i] = dto;
+        }
+
+        encoded = writer.writeValueAsBytes(employees);
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+            gzip.write(encoded);
+        }
+        System.out.printf("%n%s, %d rows: %d bytes, %d gzipped (%.0f / %.0f bytes per row)%n", format, rows,
+                encoded.length, gzipped.size(), (double) encoded.length / rows, (double) gzipped.size() / rows);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public EmployeeDTO[] deserialize() throws IOException {
+        return reader.readValue(encoded);
+    }
+
+    private static String name(Random random) {
+        String name = SYLLABLES[random.nextInt(SYLLABLES.length)] + SYLLABLES[random.nextInt(SYLLABLES.length)];
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.dto.CursorPageDTO;
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.service.EmployeeImportService;
+import com.example.employee.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full read path through EmployeeService, Spring Data and Hibernate to an embedded H2
+ * database seeded with {@value #EMPLOYEES} freelancers. The DTO cache is disabled so
+ * every single read reaches the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class RepositoryReadBenchmark {
+
+    private static final int EMPLOYEES = 10_000;
+    private static final String[] SKILLS = {"AWS", "Docker, Kubernetes", "React, Node.js, MongoDB", ""};
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+
+    @Setup
+    public void start() throws IOException {
+        context = BenchmarkContext.start("--employee.dto-cache.enabled=false");
+        employeeService = context.getBean(EmployeeService.class);
+
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            ndjson.write(objectMapper.writeValueAsBytes(BenchmarkContext.employee(i, SKILLS[i % SKILLS.length])));
+            ndjson.write('\n');
+        }
+        context.getBean(EmployeeImportService.class).importEmployees(new ByteArrayInputStream(ndjson.toByteArray()),
+                MediaType.parseMediaType(EmployeeImportService.APPLICATION_NDJSON_VALUE));
+    }
+
+    @TearDown
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public EmployeeDTO findById() {
+        return employeeService.getEmployeeById(ThreadLocalRandom.current().nextLong(1, EMPLOYEES + 1));
+    }
+
+    @Benchmark
+    public CursorPageDTO<EmployeeDTO> firstPageByLastName() {
+        return employeeService.getEmployeePage(null, 20, null, "lastName", "asc");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<EmployeeDTO> findAll() {
+        return employeeService.getAllEmployees();
+    }
+}
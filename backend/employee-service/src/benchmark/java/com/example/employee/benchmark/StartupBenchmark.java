@@ -0,0 +1,228 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.EmployeeServiceApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Cold-start benchmark: launches the service in a fresh JVM per run and measures the wall
+ * time from process start to the first 200 from GET /api/employees/1. JMH cannot measure
+ * this, since JVM startup and class loading are the point.
+ *
+ * <pre>
+ * mvn -Pcds package -DskipTests
+ * mvn -Pbenchmark test-compile exec:exec@startup -Dstartup.args="runs=5 default fastboot cds fastboot-cds"
+ * </pre>
+ *
+ * Every run uses the same H2 file database under target/startup, created and seeded by an
+ * unmeasured first start, so a run sees an existing schema and data like a pod restart
+ * does. Variants run round robin to spread machine noise evenly. With target/cds present
+ * all variants start from its plain jar so only the settings differ; the cds variants add
+ * the recorded archive. Without it, default and fastboot start from the Maven classpath.
+ * Per-run logs go to target/startup/logs and the summary to target/startup-result.json.
+ */
+public final class StartupBenchmark {
+
+    private static final String PROBE_PATH = "/api/employees/1";
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(3);
+    private static final Pattern STARTED = Pattern.compile("Started \\w+ in ([0-9.]+) seconds");
+
+    private final Path projectDir = Paths.get("").toAbsolutePath();
+    private final Path workDir = projectDir.resolve("target/startup");
+    private final Path cdsDir = projectDir.resolve("target/cds");
+    private final String java = ProcessHandle.current().info().command().orElse("java");
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = 5;
+        List<String> variants = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("runs=")) {
+                runs = Integer.parseInt(arg.substring("runs=".length()));
+            } else {
+                variants.add(arg);
+            }
+        }
+        new StartupBenchmark().run(runs, variants);
+    }
+
+    private void run(int runs, List<String> requested) throws Exception {
+        Path cdsJar = findCdsJar();
+        List<String> variants = new ArrayList<>(requested.isEmpty()
+                ? List.of("default", "fastboot", "cds", "fastboot-cds") : requested);
+        if (cdsJar == null || !Files.exists(cdsDir.resolve("app.jsa"))) {
+            System.out.println("No archive in target/cds (mvn -Pcds package); skipping the cds variants");
+            variants.removeIf(variant -> variant.endsWith("cds"));
+        }
+
+        deleteRecursively(workDir);
+        Files.createDirectories(workDir.resolve("logs"));
+        System.out.println("Preparing the database under " + workDir);
+        measure("prepare", 0, cdsJar);
+
+        Map<String, List<double[]>> samples = new LinkedHashMap<>();
+        for (int run = 1; run <= runs; run++) {
+            for (String variant : variants) {
+                double[] sample = measure(variant, run, cdsJar);
+                samples.computeIfAbsent(variant, v -> new ArrayList<>()).add(sample);
+                System.out.printf("%-14s run %d: first response after %6.0f ms (Spring reported %.3f s)%n",
+                        variant, run, sample[0], sample[1]);
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        System.out.printf("%n%-14s %10s %10s %10s %14s%n", "variant", "min ms", "median ms", "max ms", "started in s");
+        for (Map.Entry<String, List<double[]>> entry : samples.entrySet()) {
+            double[] firstResponse = entry.getValue().stream().mapToDouble(sample -> sample[0]).sorted().toArray();
+            double[] started = entry.getValue().stream().mapToDouble(sample -> sample[1]).sorted().toArray();
+            System.out.printf("%-14s %10.0f %10.0f %10.0f %14.3f%n", entry.getKey(), firstResponse[0],
+                    median(firstResponse), firstResponse[firstResponse.length - 1], median(started));
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("firstResponseMs", firstResponse);
+            summary.put("medianFirstResponseMs", median(firstResponse));
+            summary.put("medianStartedInSeconds", median(started));
+            result.put(entry.getKey(), summary);
+        }
+        Path resultFile = projectDir.resolve("target/startup-result.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(resultFile.toFile(), result);
+        System.out.println("Results written to " + resultFile);
+    }
+
+    /**
+     * Starts one JVM, returns {milliseconds to the first successful probe, seconds Spring
+     * reported for startup}, and stops it again.
+     */
+    private double[] measure(String variant, int run, Path cdsJar) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        Path log = workDir.resolve("logs").resolve(variant + "-" + run + ".log");
+        ProcessBuilder builder = new ProcessBuilder(command(variant, cdsJar, port))
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile());
+        if (cdsJar != null) {
+            // The archive records the class path as the training run saw it
+            builder.directory(cdsDir.toFile());
+        }
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            HttpRequest probe = HttpRequest.newBuilder(URI.create("http://localhost:" + port + PROBE_PATH))
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(variant + " exited with " + process.exitValue() + ", see " + log);
+                }
+                if (System.nanoTime() - start > START_TIMEOUT.toNanos()) {
+                    throw new IllegalStateException(variant + " did not answer within " + START_TIMEOUT + ", see " + log);
+                }
+                try {
+                    if (http.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        break;
+                    }
+                } catch (ConnectException | HttpConnectTimeoutException ex) {
+                    // Not listening yet
+                }
+                Thread.sleep(10);
+            }
+            double firstResponseMs = (System.nanoTime() - start) / 1_000_000.0;
+            return new double[] {firstResponseMs, startedIn(log)};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private List<String> command(String variant, Path cdsJar, int port) {
+        List<String> command = new ArrayList<>(List.of(java));
+        if (variant.endsWith("cds")) {
+            command.add("-XX:SharedArchiveFile=app.jsa");
+        }
+        if (cdsJar != null) {
+            command.addAll(List.of("-jar", cdsJar.getFileName().toString()));
+        } else {
+            command.addAll(List.of("-cp", System.getProperty("java.class.path"), EmployeeServiceApplication.class.getName()));
+        }
+        if (variant.startsWith("fastboot")) {
+            command.add("--spring.profiles.active=fastboot");
+        }
+        command.addAll(Arrays.asList(
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:file:" + workDir.resolve("employee_db") + ";MODE=MySQL",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"));
+        return command;
+    }
+
+    private Path findCdsJar() throws IOException {
+        if (!Files.isDirectory(cdsDir)) {
+            return null;
+        }
+        try (Stream<Path> files = Files.list(cdsDir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith("-cds.jar")).findFirst().orElse(null);
+        }
+    }
+
+    private static double startedIn(Path log) throws IOException {
+        try (Stream<String> lines = Files.lines(log)) {
+            return lines.map(STARTED::matcher)
+                    .filter(Matcher::find)
+                    .mapToDouble(matcher -> Double.parseDouble(matcher.group(1)))
+                    .findFirst()
+                    .orElse(Double.NaN);
+        }
+    }
+
+    private static double median(double[] sorted) {
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted((a, b) -> b.getNameCount() - a.getNameCount()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        }
+    }
+}
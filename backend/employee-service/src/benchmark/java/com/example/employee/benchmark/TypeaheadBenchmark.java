@@ -0,0 +1,108 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.config.EmployeeProperties;
+import com.example.employee.index.TypeaheadIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typeahead latency distribution on a synthetic directory. Names are built from
+ * syllables so the term dictionary has a realistic number of distinct entries; the
+ * query mix cycles through short prefixes, full names, two-token queries, skills and
+ * typos. Run with -prof gc to see allocation per query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TypeaheadBenchmark {
+
+    private static final String[] SYLLABLES = {"an", "ja", "mi", "ro", "ke", "li", "sa", "to", "ve", "na",
+            "di", "pe", "ra", "vi", "ka", "lo", "su", "me", "ha", "ti", "jo", "el", "ar", "us"};
+    private static final String[] DOMAINS = {"Web Development", "Data Science", "Mobile Development",
+            "DevOps", "Design", "Machine Learning", "Cloud Infrastructure", "Security"};
+    private static final String[] SKILLS = {"Java", "Spring Boot", "Kubernetes", "Docker", "Angular", "React",
+            "TypeScript", "Python", "PostgreSQL", "MySQL", "Terraform", "AWS", "Azure", "Go", "Rust", "Kafka",
+            "Redis", "GraphQL", "Figma", "TensorFlow", "PyTorch", "Spark", "Elasticsearch", "Node.js"};
+
+    @Param({"500000"})
+    private int employees;
+
+    private TypeaheadIndex index;
+    private final List<String> queries = new ArrayList<>();
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new TypeaheadIndex(null, new EmployeeProperties());
+        Random random = new Random(42);
+        List<String> names = new ArrayList<>();
+        for (long id = 1; id <= employees; id++) {
+            String first = name(random);
+            String last = name(random) + SYLLABLES[random.nextInt(SYLLABLES.length)];
+            List<String> skills = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                skills.add(SKILLS[random.nextInt(SKILLS.length)]);
+            }
+            index.put(id, first, last, first.toLowerCase() + "." + last.toLowerCase() + id + "@example.com",
+                    DOMAINS[random.nextInt(DOMAINS.length)], skills);
+            if (id % 5_000 == 0) {
+                names.add(first + " " + last);
+            }
+        }
+        System.out.printf("%nTypeahead index: %d employees, ~%d MB%n", employees, index.estimateBytes() >> 20);
+
+        for (String name : names) {
+            String first = name.substring(0, name.indexOf(' ')).toLowerCase();
+            String last = name.substring(name.indexOf(' ') + 1).toLowerCase();
+            queries.add(first.substring(0, 1));
+            queries.add(first.substring(0, Math.min(3, first.length())));
+            queries.add(name);
+            queries.add(first + " " + last.substring(0, 2));
+            queries.add(typo(last));
+            String skill = SKILLS[random.nextInt(SKILLS.length)];
+            queries.add(skill.substring(0, Math.min(4, skill.length())));
+            queries.add("kubernets " + first.substring(0, 2));
+        }
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        String query = queries.get(next);
+        next = (next + 1) % queries.size();
+        return index.search(query, 10);
+    }
+
+    private static String name(Random random) {
+        StringBuilder name = new StringBuilder();
+        int syllables = 2 + random.nextInt(2);
+        for (int i = 0; i < syllables; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+
+    // Swaps two adjacent characters in the middle of the word
+    private static String typo(String word) {
+        int at = word.length() / 2;
+        return word.substring(0, at - 1) + word.charAt(at) + word.charAt(at - 1) + word.substring(at + 1);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.employee.bulkhead;
+
+/**
+ * Traffic classes that get their own bounded executor, so slow searches or bulk writes
+ * cannot take the threads that cheap reads need.
+ */
+public enum Bulkhead {
+    READS,
+    SEARCHES,
+    WRITES;
+
+    String metricName() {
+        return "bulkhead-" + name().toLowerCase();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.employee.bulkhead;
+
+import com.example.employee.config.EmployeeProperties;
+import com.example.employee.datasource.ReadYourWrites;
+import com.example.employee.metrics.RequestStatistics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.sleuth.CurrentTraceContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs controller work on a bounded executor per {@link Bulkhead}, completing the
+ * controller's CompletableFuture from there. A full queue rejects immediately with 503
+ * instead of making the caller wait for admission. With employee.bulkhead.enabled=false
+ * the work runs inline on the request thread.
+ *
+ * The executors are deliberately not beans: an Executor bean would replace the
+ * auto-configured applicationTaskExecutor that serves MVC async and streaming.
+ */
+@Component
+public class BulkheadExecutor implements MeterBinder, DisposableBean {
+
+    private final EmployeeProperties.Bulkheads config;
+    private final ObjectProvider<CurrentTraceContext> traceContext;
+    private final Map<Bulkhead, ThreadPoolExecutor> executors = new EnumMap<>(Bulkhead.class);
+    private final Map<Bulkhead, Counter> rejections = new EnumMap<>(Bulkhead.class);
+
+    public BulkheadExecutor(EmployeeProperties properties, ObjectProvider<CurrentTraceContext> traceContext) {
+        this.config = properties.getBulkhead();
+        this.traceContext = traceContext;
+        if (config.isEnabled()) {
+            executors.put(Bulkhead.READS, newExecutor(Bulkhead.READS, config.getReads()));
+            executors.put(Bulkhead.SEARCHES, newExecutor(Bulkhead.SEARCHES, config.getSearches()));
+            executors.put(Bulkhead.WRITES, newExecutor(Bulkhead.WRITES, config.getWrites()));
+        }
+    }
+
+    /**
+     * Returns at once with a future the executor completes, so the request thread goes back
+     * to Tomcat while the work waits for and runs on the bulkhead's own threads. With
+     * bulkheads disabled the work runs inline and the future is already complete, which
+     * {@link CompletedFutureReturnValueHandler} answers without an async dispatch.
+     */
+    public <T> CompletableFuture<T> submit(Bulkhead bulkhead, Supplier<T> work) {
+        ThreadPoolExecutor executor = executors.get(bulkhead);
+        if (executor == null) {
+            return CompletableFuture.completedFuture(work.get());
+        }
+        try {
+            return CompletableFuture.supplyAsync(work, task -> executor.execute(decorate(task)));
+        } catch (RejectedExecutionException ex) {
+            Counter rejected = rejections.get(bulkhead);
+            if (rejected != null) {
+                rejected.increment();
+            }
+            throw new BulkheadFullException(bulkhead, config.getRetryAfter());
+        }
+    }
+
+    private Runnable decorate(Runnable task) {
+        Runnable decorated = ReadYourWrites.wrap(RequestStatistics.wrap(task));
+        CurrentTraceContext tracing = traceContext.getIfAvailable();
+        return tracing == null ? decorated : tracing.wrap(decorated);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        executors.forEach((bulkhead, executor) -> {
+            // executor.active, executor.queued, executor.queue.remaining, executor.pool.size
+            ExecutorServiceMetrics.monitor(registry, executor, bulkhead.metricName());
+            rejections.put(bulkhead, Counter.builder("bulkhead.rejected")
+                    .description("Requests rejected because the bulkhead queue was full")
+                    .tags(Tags.of("name", bulkhead.metricName()))
+                    .register(registry));
+        });
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executors.values().forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor executor : executors.values()) {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static ThreadPoolExecutor newExecutor(Bulkhead bulkhead, EmployeeProperties.Pool pool) {
+        return new ThreadPoolExecutor(pool.getThreads(), pool.getThreads(), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(pool.getQueueCapacity()),
+                new CustomizableThreadFactory(bulkhead.metricName() + "-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
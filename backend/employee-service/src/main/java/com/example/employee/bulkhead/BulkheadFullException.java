@@ -0,0 +1,17 @@
+package com.example.employee.bulkhead;
+
+import java.time.Duration;
+
+public class BulkheadFullException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public BulkheadFullException(Bulkhead bulkhead, Duration retryAfter) {
+        super("Too many concurrent " + bulkhead.name().toLowerCase() + " requests, retry later");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.employee.bulkhead;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandlerComposite;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Writes a CompletableFuture that is already complete, as {@link BulkheadExecutor} returns
+ * with bulkheads disabled, through the handler for its value on the request thread. MVC
+ * would otherwise start async processing and dispatch again for every such request.
+ * Pending and failed futures go on to MVC's async handling.
+ */
+public class CompletedFutureReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    private final HandlerMethodReturnValueHandlerComposite delegates = new HandlerMethodReturnValueHandlerComposite();
+
+    /**
+     * @param handlers MVC's own return value handlers, which this one is placed in front of
+     */
+    public CompletedFutureReturnValueHandler(List<HandlerMethodReturnValueHandler> handlers) {
+        delegates.addHandlers(handlers);
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return CompletableFuture.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest) throws Exception {
+        CompletableFuture<?> future = (CompletableFuture<?>) returnValue;
+        if (future != null && future.isDone() && !future.isCompletedExceptionally()) {
+            delegates.handleReturnValue(future.join(), new ResultMethodParameter(returnType), mavContainer, webRequest);
+        } else {
+            delegates.handleReturnValue(returnValue, returnType, mavContainer, webRequest);
+        }
+    }
+
+    // The declared return type with the future unwrapped, as MVC does for async results
+    private static final class ResultMethodParameter extends MethodParameter {
+
+        private final ResolvableType resultType;
+
+        ResultMethodParameter(MethodParameter returnType) {
+            this(returnType, ResolvableType.forMethodParameter(returnType).getGeneric());
+        }
+
+        private ResultMethodParameter(MethodParameter original, ResolvableType resultType) {
+            super(original);
+            this.resultType = resultType;
+        }
+
+        @Override
+        public Class<?> getParameterType() {
+            return resultType.resolve(Object.class);
+        }
+
+        @Override
+        public Type getGenericParameterType() {
+            return resultType.getType();
+        }
+
+        @Override
+        public ResultMethodParameter clone() {
+            return new ResultMethodParameter(this, resultType);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.employee.cache;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Carries employee cache invalidations between service replicas. Implementations are
+ * selected with employee.dto-cache.invalidation-channel; delivery is at-most-once, the
+ * cache TTL bounds staleness when a message is lost.
+ */
+public interface CacheInvalidationChannel {
+
+    /**
+     * @param minVersion the version the write committed; older copies must not be cached again
+     */
+    void publish(Long employeeId, long minVersion);
+
+    void subscribe(BiConsumer<Long, Long> listener);
+}
@@ -0,0 +1,103 @@
+package com.example.employee.cache;
+
+import com.example.employee.config.EmployeeProperties;
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of EmployeeDTO by id. Entries are evicted once a write
+ * commits and the eviction is broadcast to the other replicas. Cached DTOs are shared
+ * between callers and must not be modified.
+ * <p>
+ * An eviction also remembers the version the write committed, and a loaded DTO is only
+ * stored if it is at least that version: a read that started before the write, or that
+ * went to a lagging replica, would otherwise put the old copy back for a whole TTL.
+ */
+@Component
+public class EmployeeDtoCache implements MeterBinder {
+
+    public static final String CACHE_NAME = "employee-dto";
+
+    private final CacheInvalidationChannel channel;
+    private final Cache<Long, EmployeeDTO> cache;
+    private final Cache<Long, Long> minVersions;
+
+    public EmployeeDtoCache(EmployeeProperties properties, CacheInvalidationChannel channel) {
+        EmployeeProperties.DtoCache config = properties.getDtoCache();
+        this.channel = channel;
+        this.cache = config.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(config.getMaxEntries())
+                        .expireAfterWrite(config.getTtl())
+                        .recordStats()
+                        .build()
+                : null;
+        this.minVersions = config.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(config.getMaxEntries())
+                        .expireAfterWrite(config.getTtl())
+                        .build()
+                : null;
+        if (cache != null) {
+            channel.subscribe(this::invalidate);
+        }
+    }
+
+    public EmployeeDTO get(Long id, Function<Long, EmployeeDTO> loader) {
+        if (cache == null) {
+            return loader.apply(id);
+        }
+        EmployeeDTO cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        EmployeeDTO loaded = loader.apply(id);
+        // Runs under the entry's lock, so it is ordered with invalidate's removal
+        cache.asMap().compute(id, (key, current) -> {
+            Long minVersion = minVersions.getIfPresent(key);
+            if (loaded.getVersion() == null || (minVersion != null && loaded.getVersion() < minVersion)) {
+                return current;
+            }
+            return current != null && current.getVersion() != null && current.getVersion() > loaded.getVersion()
+                    ? current
+                    : loaded;
+        });
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        // New ids were never cached, since misses are not stored
+        if (cache == null || event.getType() == EmployeeChangedEvent.Type.CREATED) {
+            return;
+        }
+        // A deleted employee must not come back from a replica that has not seen the delete
+        long minVersion = event.getType() == EmployeeChangedEvent.Type.DELETED
+                ? Long.MAX_VALUE
+                : event.getEmployee().getVersion();
+        invalidate(event.getEmployeeId(), minVersion);
+        channel.publish(event.getEmployeeId(), minVersion);
+    }
+
+    private void invalidate(Long employeeId, Long minVersion) {
+        minVersions.asMap().merge(employeeId, minVersion, Math::max);
+        cache.invalidate(employeeId);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME, Tags.of("layer", "service"));
+        }
+    }
+}
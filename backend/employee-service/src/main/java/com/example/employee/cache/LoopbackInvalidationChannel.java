@@ -0,0 +1,31 @@
+package com.example.employee.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * In-process channel that delivers every invalidation to all subscribers in this JVM.
+ * Used for single-instance runs and to exercise the invalidation flow locally; other
+ * replicas never hear of a write, so it must not back an enabled cache on more than one
+ * instance.
+ */
+@Component
+@ConditionalOnProperty(prefix = "employee.dto-cache", name = "invalidation-channel", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackInvalidationChannel implements CacheInvalidationChannel {
+
+    private final List<BiConsumer<Long, Long>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Long employeeId, long minVersion) {
+        listeners.forEach(listener -> listener.accept(employeeId, minVersion));
+    }
+
+    @Override
+    public void subscribe(BiConsumer<Long, Long> listener) {
+        listeners.add(listener);
+    }
+}
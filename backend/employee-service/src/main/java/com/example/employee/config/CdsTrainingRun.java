@@ -0,0 +1,53 @@
+package com.example.employee.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+/**
+ * Training run for the class-data-sharing archive built by mvn -Pcds package. Once the
+ * application is ready it sends a few typical requests to itself, so the request path is
+ * loaded too, then exits; the JVM writes the archive of every class loaded so far.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("employee.cds.training-run")
+public class CdsTrainingRun {
+
+    private static final List<String> PATHS = List.of("/api/employees/1", "/api/employees?view=summary",
+            "/api/employees/page?size=20", "/actuator/health");
+
+    // After the index rebuilds, whose classes belong in the archive as well
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void exitWhenReady(ApplicationReadyEvent event) {
+        int port = ((WebServerApplicationContext) event.getApplicationContext()).getWebServer().getPort();
+        HttpClient client = HttpClient.newHttpClient();
+        for (String path : PATHS) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build();
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                log.info("CDS training request {} returned {}", path, status);
+            } catch (IOException ex) {
+                log.warn("CDS training request {} failed: {}", path, ex.toString());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.employee.config;
+
+import com.example.employee.limit.AdaptiveConcurrencyLimiter;
+import com.example.employee.limit.ConcurrencyLimitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Adaptive admission control for /api/employees, on unless
+ * employee.concurrency-limit.enabled=false. Runs after the http.server.requests metrics
+ * and tracing filters, so shed requests still show up there as 503s.
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.concurrency-limit.enabled", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(EmployeeProperties properties) {
+        return new AdaptiveConcurrencyLimiter(properties.getConcurrencyLimit());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter,
+                                                                                  ObjectMapper objectMapper,
+                                                                                  EmployeeProperties properties) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(limiter, objectMapper, properties.getConcurrencyLimit().getRetryAfter()));
+        registration.addUrlPatterns("/api/employees", "/api/employees/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 6);
+        return registration;
+    }
+}
@@ -2,30 +2,48 @@ package com.example.employee.config;
 
 import com.example.employee.entity.Employee;
 import com.example.employee.entity.Skills;
-import com.example.employee.repository.EmployeeRepository;
 import com.example.employee.repository.SkillsRepository;
+import com.example.employee.service.EmployeeImportService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+/**
+ * Seeds demo skills and employees into an empty database. Everything goes in as JDBC
+ * batches, a handful of round trips in total, so seeding does not stretch startup.
+ */
 @Component
 @RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
 
-    private final EmployeeRepository employeeRepository;
+    private static final String INSERT_SKILL = "insert into skills (skill_name, category, created_at) values (?, ?, ?)";
+
     private final SkillsRepository skillsRepository;
+    private final EmployeeImportService importService;
+    private final JdbcTemplate jdbcTemplate;
+    private final EmployeeProperties properties;
 
     @Override
+    // One read-write transaction, so the skill lookups see the skills inserted just before
+    @Transactional
     public void run(String... args) throws Exception {
-        // Only populate if database is empty
-        if (employeeRepository.count() == 0) {
-            // Create skills first
-            createSkills();
+        // Only populate if database is empty; count() would scan the whole table
+        if (properties.getSeedData().isEnabled()
+                && jdbcTemplate.queryForList("select employee_id from employee limit 1", Long.class).isEmpty()) {
+            Map<String, Skills> skills = createSkills();
             Employee emp1 = new Employee();
             emp1.setFirstName("John");
             emp1.setLastName("Doe");
@@ -45,7 +63,7 @@ public class DataInitializer implements CommandLineRunner {
             emp1.setLinkedinUrl("https://linkedin.com/in/johndoe");
             emp1.setGithubUrl("https://github.com/johndoe");
             emp1.setStatus("Active");
-            emp1.setSkills(getSkillsForEmployee("JavaScript", "React", "Node.js", "MongoDB"));
+            emp1.setSkills(skills(skills, "JavaScript", "React", "Node.js", "MongoDB"));
 
             Employee emp2 = new Employee();
             emp2.setFirstName("Jane");
@@ -67,7 +85,7 @@ public class DataInitializer implements CommandLineRunner {
             emp2.setLinkedinUrl("https://linkedin.com/in/janesmith");
             emp2.setGithubUrl("https://github.com/janesmith");
             emp2.setStatus("Active");
-            emp2.setSkills(getSkillsForEmployee("Python", "Machine Learning", "TensorFlow", "Pandas"));
+            emp2.setSkills(skills(skills, "Python", "Machine Learning", "TensorFlow", "Pandas"));
 
             Employee emp3 = new Employee();
             emp3.setFirstName("Mike");
@@ -88,7 +106,7 @@ public class DataInitializer implements CommandLineRunner {
             emp3.setLinkedinUrl("https://linkedin.com/in/mikejohnson");
             emp3.setGithubUrl("https://github.com/mikejohnson");
             emp3.setStatus("Active");
-            emp3.setSkills(getSkillsForEmployee("Flutter", "Dart", "Firebase", "Android", "iOS"));
+            emp3.setSkills(skills(skills, "Flutter", "Dart", "Firebase", "Android", "iOS"));
 
             Employee emp4 = new Employee();
             emp4.setFirstName("Sarah");
@@ -108,7 +126,7 @@ public class DataInitializer implements CommandLineRunner {
             emp4.setDomain("UI/UX Design");
             emp4.setLinkedinUrl("https://linkedin.com/in/sarahwilson");
             emp4.setStatus("Active");
-            emp4.setSkills(getSkillsForEmployee("Figma", "Adobe XD", "Sketch", "Prototyping", "User Research"));
+            emp4.setSkills(skills(skills, "Figma", "Adobe XD", "Sketch", "Prototyping", "User Research"));
 
             Employee emp5 = new Employee();
             emp5.setFirstName("David");
@@ -129,17 +147,14 @@ public class DataInitializer implements CommandLineRunner {
             emp5.setLinkedinUrl("https://linkedin.com/in/davidbrown");
             emp5.setGithubUrl("https://github.com/davidbrown");
             emp5.setStatus("Active");
-            emp5.setSkills(getSkillsForEmployee("Docker", "Kubernetes", "AWS", "Jenkins", "Terraform"));
+            emp5.setSkills(skills(skills, "Docker", "Kubernetes", "AWS", "Jenkins", "Terraform"));
 
-            employeeRepository.save(emp1);
-            employeeRepository.save(emp2);
-            employeeRepository.save(emp3);
-            employeeRepository.save(emp4);
-            employeeRepository.save(emp5);
+            // emp2 reports to emp1, which the batch inserts first
+            importService.insertAll(List.of(emp1, emp2, emp3, emp4, emp5));
         }
     }
 
-    private void createSkills() {
+    private Map<String, Skills> createSkills() {
         String[][] skillsData = {
             {"JavaScript", "Programming"},
             {"React", "Frontend"},
@@ -166,19 +181,27 @@ public class DataInitializer implements CommandLineRunner {
             {"Terraform", "Infrastructure"}
         };
 
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(skillsData.length);
         for (String[] skillData : skillsData) {
-            Skills skill = new Skills();
-            skill.setSkillName(skillData[0]);
-            skill.setCategory(skillData[1]);
-            skillsRepository.save(skill);
+            rows.add(new Object[] {skillData[0], skillData[1], now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SKILL, rows);
+
+        Map<String, Skills> skillsByName = new HashMap<>();
+        for (Skills skill : skillsRepository.findAll()) {
+            skillsByName.put(skill.getSkillName(), skill);
         }
+        return skillsByName;
     }
 
-    private Set<Skills> getSkillsForEmployee(String... skillNames) {
+    private static Set<Skills> skills(Map<String, Skills> skillsByName, String... skillNames) {
         Set<Skills> skills = new HashSet<>();
         for (String skillName : skillNames) {
-            skillsRepository.findBySkillName(skillName)
-                .ifPresent(skills::add);
+            Skills skill = skillsByName.get(skillName);
+            if (skill != null) {
+                skills.add(skill);
+            }
         }
         return skills;
     }
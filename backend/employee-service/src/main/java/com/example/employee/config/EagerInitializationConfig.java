@@ -0,0 +1,35 @@
+package com.example.employee.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+
+import java.lang.reflect.Method;
+
+/**
+ * Beans that must exist from startup even when spring.main.lazy-initialization is on (the
+ * fastboot profile): scheduled maintenance, event listeners such as the indexes, which
+ * would otherwise miss changes or rebuild on the first request, and meter binders.
+ */
+@Configuration
+public class EagerInitializationConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter startupCriticalBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && (SchedulingConfigurer.class.isAssignableFrom(beanType)
+                || MeterBinder.class.isAssignableFrom(beanType)
+                || hasEventListeners(beanType));
+    }
+
+    // Also matches @TransactionalEventListener, which is meta-annotated with @EventListener
+    private static boolean hasEventListeners(Class<?> beanType) {
+        return !MethodIntrospector.selectMethods(beanType, (Method method) ->
+                AnnotatedElementUtils.hasAnnotation(method, EventListener.class)).isEmpty();
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.employee.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "employee")
+public class EmployeeProperties {
+
+    private Pagination pagination = new Pagination();
+    private SecondLevelCache secondLevelCache = new SecondLevelCache();
+    private BulkImport bulkImport = new BulkImport();
+    private Export export = new Export();
+    private DtoCache dtoCache = new DtoCache();
+    private Bulkheads bulkhead = new Bulkheads();
+    private Typeahead typeahead = new Typeahead();
+    private Facets facets = new Facets();
+    private SkillSearch skillSearch = new SkillSearch();
+    private Hierarchy hierarchy = new Hierarchy();
+    private Sync sync = new Sync();
+    private Uniqueness uniqueness = new Uniqueness();
+    private ReadReplicas readReplicas = new ReadReplicas();
+    private SeedData seedData = new SeedData();
+    private ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+    private ConfigSnapshot configSnapshot = new ConfigSnapshot();
+    private TailSampling tailSampling = new TailSampling();
+
+    @Data
+    public static class Pagination {
+        private int defaultSize = 20;
+        private int maxSize = 100;
+    }
+
+    @Data
+    public static class BulkImport {
+        private int batchSize = 500;
+        private int chunkSize = 2_000;
+        private int maxReportedErrors = 1_000;
+    }
+
+    @Data
+    public static class Export {
+        private int fetchSize = 1_000;
+    }
+
+    @Data
+    public static class DtoCache {
+        private boolean enabled = false;
+        private long maxEntries = 10_000;
+        private Duration ttl = Duration.ofMinutes(10);
+        private String invalidationChannel = "loopback";
+    }
+
+    @Data
+    public static class Bulkheads {
+        private boolean enabled = false;
+        private Pool reads = new Pool(16, 200);
+        private Pool searches = new Pool(4, 20);
+        private Pool writes = new Pool(8, 50);
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+
+    @Data
+    public static class Typeahead {
+        private int defaultResults = 10;
+        private int maxResults = 50;
+        private int maxExpansions = 256;
+        private int maxFuzzyCandidates = 4_096;
+        private Duration rebuildInterval = Duration.ofMinutes(10);
+        private DataSize memoryBudget = DataSize.ofMegabytes(256);
+    }
+
+    @Data
+    public static class Facets {
+        private Duration reconcileInterval = Duration.ofMinutes(10);
+    }
+
+    @Data
+    public static class SkillSearch {
+        private Duration rebuildInterval = Duration.ofMinutes(10);
+    }
+
+    @Data
+    public static class Hierarchy {
+        private Duration rebuildInterval = Duration.ofMinutes(10);
+    }
+
+    @Data
+    public static class Sync {
+        private int defaultPageSize = 500;
+        private int maxPageSize = 5_000;
+        private Duration commitLag = Duration.ofSeconds(5);
+        private Duration tombstoneRetention = Duration.ofDays(30);
+        private Duration pruneInterval = Duration.ofHours(1);
+    }
+
+    @Data
+    public static class Uniqueness {
+        private long minExpectedKeys = 1_000_000;
+        private double falsePositiveRate = 0.01;
+        private Duration rebuildInterval = Duration.ofHours(1);
+    }
+
+    @Data
+    public static class ReadReplicas {
+        private boolean enabled = false;
+        private List<Replica> replicas = new ArrayList<>();
+        private Duration healthCheckInterval = Duration.ofSeconds(5);
+        private Duration connectionTimeout = Duration.ofSeconds(2);
+        private Duration readYourWritesWindow = Duration.ofSeconds(5);
+        private String clientIdHeader = "X-Client-Id";
+        private int maxTrackedClients = 100_000;
+        private Duration localReplicationInterval = Duration.ofSeconds(2);
+    }
+
+    @Data
+    public static class ConcurrencyLimit {
+        private boolean enabled = true;
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 200;
+        private double tolerance = 1.5;
+        private double smoothing = 0.2;
+        private Duration window = Duration.ofMillis(500);
+        private int minWindowSamples = 10;
+        private int longWindows = 60;
+        private double normalShare = 0.9;
+        private double bulkShare = 0.5;
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+
+    @Data
+    public static class ConfigSnapshot {
+        private boolean enabled = true;
+        private Path path = Paths.get(System.getProperty("java.io.tmpdir"), "employee-service", "config-snapshot.properties");
+        private Duration refreshInterval = Duration.ofMinutes(1);
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class TailSampling {
+        private boolean enabled = true;
+        private Duration latencyThreshold = Duration.ofMillis(500);
+        private double baselineRate = 0.01;
+        private int maxBufferedSpans = 10_000;
+        private Duration maxTraceDuration = Duration.ofMinutes(1);
+        private Duration evictionInterval = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class SeedData {
+        private boolean enabled = true;
+    }
+
+    @Data
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+        private int threads;
+        private int queueCapacity;
+    }
+
+    @Data
+    public static class SecondLevelCache {
+        private boolean enabled = true;
+        private CacheRegion skills = new CacheRegion(1_000, Duration.ofHours(12));
+        private CacheRegion employeeSkills = new CacheRegion(50_000, Duration.ofMinutes(30));
+        private CacheRegion queries = new CacheRegion(1_000, Duration.ofHours(1));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CacheRegion {
+        private long maxEntries;
+        private Duration ttl;
+    }
+}
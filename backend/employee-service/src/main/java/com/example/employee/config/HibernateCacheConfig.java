@@ -0,0 +1,79 @@
+package com.example.employee.config;
+
+import com.example.employee.entity.Employee;
+import com.example.employee.entity.Skills;
+import com.example.employee.repository.SkillsRepository;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+
+/**
+ * In-process Hibernate second-level cache for the Skills catalog, the Employee.skills
+ * collection and the findBySkillName query. Hit, miss, put and eviction counts are
+ * published per region as cache.* meters.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "employee.second-level-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class HibernateCacheConfig {
+
+    private static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+    private static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(EmployeeProperties properties) {
+        EmployeeProperties.SecondLevelCache config = properties.getSecondLevelCache();
+        // A provider of our own rather than Caching's JVM-wide one, whose default manager would be
+        // shared with (and closed by) any other application context in the same JVM
+        CachingProvider provider = new EhcacheCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        createRegion(cacheManager, Skills.CACHE_REGION, config.getSkills());
+        createRegion(cacheManager, Employee.SKILLS_CACHE_REGION, config.getEmployeeSkills());
+        createRegion(cacheManager, SkillsRepository.SKILL_BY_NAME_CACHE_REGION, config.getQueries());
+        createRegion(cacheManager, DEFAULT_QUERY_REGION, config.getQueries());
+        // Update timestamps guard query cache consistency and must never expire
+        createRegion(cacheManager, TIMESTAMPS_REGION, new EmployeeProperties.CacheRegion(10_000, null));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put("hibernate.cache.use_second_level_cache", true);
+            hibernateProperties.put("hibernate.cache.use_query_cache", true);
+            hibernateProperties.put("hibernate.cache.region.factory_class", "jcache");
+            hibernateProperties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+            hibernateProperties.put("hibernate.javax.cache.missing_cache_strategy", "create-warn");
+        };
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> hibernateCacheManager.getCacheNames().forEach(name ->
+                JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(name), Tags.of("layer", "hibernate")));
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, EmployeeProperties.CacheRegion region) {
+        Duration ttl = region.getTtl();
+        cacheManager.createCache(name, Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
+                                ResourcePoolsBuilder.heap(region.getMaxEntries()))
+                        .withExpiry(ttl == null ? ExpiryPolicyBuilder.noExpiration() : ExpiryPolicyBuilder.timeToLiveExpiration(ttl))
+                        .build()));
+        cacheManager.enableStatistics(name, true);
+        cacheManager.enableManagement(name, true);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.employee.config;
+
+import com.example.employee.datasource.ReadYourWrites;
+import com.example.employee.datasource.ReadYourWritesFilter;
+import com.example.employee.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Read/write splitting. spring.datasource stays the primary; read-only transactions go to
+ * employee.read-replicas.replicas, which share the primary's driver and default to its
+ * credentials.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "employee.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReadYourWrites readYourWrites(EmployeeProperties properties) {
+        EmployeeProperties.ReadReplicas config = properties.getReadReplicas();
+        return new ReadYourWrites(config.getReadYourWritesWindow(), config.getMaxTrackedClients());
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             EmployeeProperties properties,
+                                                             ReadYourWrites readYourWrites) {
+        EmployeeProperties.ReadReplicas config = properties.getReadReplicas();
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        SqlFunctionsConfig.initSession(primary);
+
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < config.getReplicas().size(); i++) {
+            EmployeeProperties.Replica replica = config.getReplicas().get(i);
+            String name = StringUtils.hasText(replica.getName()) ? replica.getName() : "replica-" + (i + 1);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            pool.setUsername(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.determineUsername());
+            pool.setPassword(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.determinePassword());
+            pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+            // Fail over to another replica or the primary quickly instead of after Hikari's 30s default
+            pool.setConnectionTimeout(config.getConnectionTimeout().toMillis());
+            pool.setReadOnly(true);
+            SqlFunctionsConfig.initSession(pool);
+            replicas.put(name, pool);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, readYourWrites, config.getConnectionTimeout());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(EmployeeProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(properties.getReadReplicas().getClientIdHeader()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
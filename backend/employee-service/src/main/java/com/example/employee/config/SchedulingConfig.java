@@ -0,0 +1,116 @@
+package com.example.employee.config;
+
+import com.example.employee.datasource.EmbeddedReplication;
+import com.example.employee.datasource.ReplicaRoutingDataSource;
+import com.example.employee.index.FacetIndex;
+import com.example.employee.index.ManagerHierarchyIndex;
+import com.example.employee.index.SkillIndex;
+import com.example.employee.index.TypeaheadIndex;
+import com.example.employee.remoteconfig.ConfigSnapshotRefresher;
+import com.example.employee.service.EmployeeSyncService;
+import com.example.employee.service.RegistrationUniquenessService;
+import com.example.employee.tracing.TailSampler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.task.TaskSchedulerBuilder;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Background maintenance tasks. Intervals come from EmployeeProperties rather than
+ * {@code @Scheduled} placeholders so they accept the same duration syntax as the
+ * rest of the employee.* settings. They share a scheduler sized by
+ * spring.task.scheduling.pool.size, so the long rebuilds cannot hold up the short checks.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer, DisposableBean {
+
+    private final EmployeeProperties properties;
+    private final FacetIndex facetIndex;
+    private final SkillIndex skillIndex;
+    private final ManagerHierarchyIndex hierarchyIndex;
+    private final TypeaheadIndex typeaheadIndex;
+    private final EmployeeSyncService syncService;
+    private final RegistrationUniquenessService uniquenessService;
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRouting;
+    private final ObjectProvider<EmbeddedReplication> embeddedReplication;
+    private final ObjectProvider<ConfigSnapshotRefresher> configSnapshotRefresher;
+    private final ObjectProvider<TailSampler> tailSampler;
+    // Boot only creates its scheduler when there is no SchedulingConfigurer; without this one
+    // all tasks would share a single thread. Not a bean, since an Executor bean would also
+    // replace Boot's applicationTaskExecutor.
+    private final ThreadPoolTaskScheduler scheduler;
+
+    public SchedulingConfig(EmployeeProperties properties, FacetIndex facetIndex, SkillIndex skillIndex,
+                            ManagerHierarchyIndex hierarchyIndex, TypeaheadIndex typeaheadIndex,
+                            EmployeeSyncService syncService, RegistrationUniquenessService uniquenessService,
+                            ObjectProvider<ReplicaRoutingDataSource> replicaRouting,
+                            ObjectProvider<EmbeddedReplication> embeddedReplication,
+                            ObjectProvider<ConfigSnapshotRefresher> configSnapshotRefresher,
+                            ObjectProvider<TailSampler> tailSampler, TaskSchedulerBuilder schedulerBuilder) {
+        this.properties = properties;
+        this.facetIndex = facetIndex;
+        this.skillIndex = skillIndex;
+        this.hierarchyIndex = hierarchyIndex;
+        this.typeaheadIndex = typeaheadIndex;
+        this.syncService = syncService;
+        this.uniquenessService = uniquenessService;
+        this.replicaRouting = replicaRouting;
+        this.embeddedReplication = embeddedReplication;
+        this.configSnapshotRefresher = configSnapshotRefresher;
+        this.tailSampler = tailSampler;
+        this.scheduler = schedulerBuilder.build();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        scheduler.initialize();
+        registrar.setScheduler(scheduler);
+
+        long interval = properties.getFacets().getReconcileInterval().toMillis();
+        // The first reconciliation is the rebuild on ApplicationReadyEvent
+        registrar.addFixedDelayTask(new FixedDelayTask(facetIndex::rebuild, interval, interval));
+
+        long skillRebuild = properties.getSkillSearch().getRebuildInterval().toMillis();
+        registrar.addFixedDelayTask(new FixedDelayTask(skillIndex::rebuild, skillRebuild, skillRebuild));
+
+        long hierarchyRebuild = properties.getHierarchy().getRebuildInterval().toMillis();
+        registrar.addFixedDelayTask(new FixedDelayTask(hierarchyIndex::rebuild, hierarchyRebuild, hierarchyRebuild));
+
+        long typeaheadRebuild = properties.getTypeahead().getRebuildInterval().toMillis();
+        registrar.addFixedDelayTask(new FixedDelayTask(typeaheadIndex::rebuild, typeaheadRebuild, typeaheadRebuild));
+
+        long uniqueness = properties.getUniqueness().getRebuildInterval().toMillis();
+        registrar.addFixedDelayTask(new FixedDelayTask(uniquenessService::rebuild, uniqueness, uniqueness));
+
+        long prune = properties.getSync().getPruneInterval().toMillis();
+        registrar.addFixedDelayTask(new FixedDelayTask(syncService::pruneTombstones, prune, prune));
+
+        long healthCheck = properties.getReadReplicas().getHealthCheckInterval().toMillis();
+        replicaRouting.ifAvailable(routing ->
+                registrar.addFixedDelayTask(new FixedDelayTask(routing::checkReplicas, healthCheck, healthCheck)));
+
+        long replication = properties.getReadReplicas().getLocalReplicationInterval().toMillis();
+        embeddedReplication.ifAvailable(replicator ->
+                registrar.addFixedDelayTask(new FixedDelayTask(replicator::replicate, replication, replication)));
+
+        // First fetch right away, so a boot that fell back to the snapshot catches up quickly
+        long configRefresh = properties.getConfigSnapshot().getRefreshInterval().toMillis();
+        configSnapshotRefresher.ifAvailable(refresher ->
+                registrar.addFixedDelayTask(new FixedDelayTask(refresher::refresh, configRefresh, 0)));
+
+        long eviction = properties.getTailSampling().getEvictionInterval().toMillis();
+        tailSampler.ifAvailable(sampler ->
+                registrar.addFixedDelayTask(new FixedDelayTask(sampler::evictStale, eviction, eviction)));
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.employee.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * SQL functions used by JPQL and criteria queries that HQL cannot express natively.
+ */
+@Configuration
+public class SqlFunctionsConfig {
+
+    /**
+     * Aggregates skill names into the same ", " separated, sorted string the mapper builds
+     * for skillsString. Understood by MySQL and by H2; MySQL connections get a
+     * group_concat_max_len large enough that the list is never cut off.
+     */
+    public static final String SKILL_LIST = "skill_list";
+
+    // MySQL truncates group_concat results at 1024 bytes by default, without an error
+    private static final String MYSQL_SESSION_INIT = "SET SESSION group_concat_max_len = 1048576";
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlFunctionsCustomizer() {
+        MetadataBuilderContributor contributor = builder -> builder.applySqlFunction(SKILL_LIST, new SkillListFunction());
+        return hibernateProperties ->
+                hibernateProperties.put(EntityManagerFactoryBuilderImpl.METADATA_BUILDER_CONTRIBUTOR, contributor);
+    }
+
+    /**
+     * Covers the auto-configured pool; pools built by hand, such as the read replicas, call
+     * {@link #initSession(HikariDataSource)} themselves.
+     */
+    @Bean
+    public static BeanPostProcessor sqlFunctionsSessionInitializer() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource) {
+                    initSession((HikariDataSource) bean);
+                }
+                return bean;
+            }
+        };
+    }
+
+    public static void initSession(HikariDataSource pool) {
+        String url = pool.getJdbcUrl();
+        if (url != null && url.startsWith("jdbc:mysql:") && pool.getConnectionInitSql() == null) {
+            pool.setConnectionInitSql(MYSQL_SESSION_INIT);
+        }
+    }
+
+    // Not a SQLFunctionTemplate: templates cannot repeat an argument for the ORDER BY
+    private static final class SkillListFunction implements SQLFunction {
+
+        @Override
+        public boolean hasArguments() {
+            return true;
+        }
+
+        @Override
+        public boolean hasParenthesesIfNoArguments() {
+            return true;
+        }
+
+        @Override
+        public Type getReturnType(Type firstArgumentType, Mapping mapping) {
+            return StandardBasicTypes.STRING;
+        }
+
+        @Override
+        public String render(Type firstArgumentType, List arguments, SessionFactoryImplementor factory) {
+            Object skillName = arguments.get(0);
+            return "group_concat(" + skillName + " order by " + skillName + " separator ', ')";
+        }
+    }
+}
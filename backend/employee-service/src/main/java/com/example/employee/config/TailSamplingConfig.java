@@ -0,0 +1,50 @@
+package com.example.employee.config;
+
+import brave.TracingCustomizer;
+import brave.handler.SpanHandler;
+import com.example.employee.tracing.TailSampler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import zipkin2.reporter.brave.ZipkinSpanHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tail-based trace sampling when Sleuth is on, unless employee.tail-sampling.enabled=false.
+ * Every request is recorded locally whatever the head sampler decided, and the Zipkin
+ * handler is wrapped so it only reports the traces TailSampler keeps. Calls made downstream
+ * still carry the head sampler's decision (spring.sleuth.sampler.*), so services behind this
+ * one trace no more than they did before.
+ */
+@Configuration
+@ConditionalOnProperty(name = {"spring.sleuth.enabled", "employee.tail-sampling.enabled"}, matchIfMissing = true)
+public class TailSamplingConfig {
+
+    @Bean
+    public TailSampler tailSampler(EmployeeProperties properties) {
+        return new TailSampler(properties.getTailSampling());
+    }
+
+    @Bean
+    public TracingCustomizer tailSamplingTracingCustomizer(TailSampler tailSampler) {
+        return builder -> {
+            // Spans the head sampler passed over still reach the span handlers, as unsampled
+            builder.alwaysSampleLocal();
+            List<SpanHandler> handlers = new ArrayList<>(builder.spanHandlers());
+            builder.clearSpanHandlers();
+            // Reporters stay last, as Sleuth orders them, so other handlers still see every span
+            List<SpanHandler> reporters = new ArrayList<>();
+            for (SpanHandler handler : handlers) {
+                if (handler instanceof ZipkinSpanHandler) {
+                    // By default Zipkin reports only head-sampled spans; the tail sampler decides instead
+                    reporters.add(tailSampler.wrap(((ZipkinSpanHandler) handler).toBuilder().alwaysReportSpans(true).build()));
+                } else {
+                    builder.addSpanHandler(handler);
+                }
+            }
+            reporters.forEach(builder::addSpanHandler);
+        };
+    }
+}
@@ -1,48 +1,195 @@
 package com.example.employee.controller;
 
+import com.example.employee.bulkhead.Bulkhead;
+import com.example.employee.bulkhead.BulkheadExecutor;
+import com.example.employee.dto.ChangesDTO;
+import com.example.employee.dto.CursorPageDTO;
 import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.dto.EmployeeFilter;
+import com.example.employee.dto.EmployeeSummaryDTO;
+import com.example.employee.dto.FacetCountsDTO;
+import com.example.employee.dto.HeadcountDTO;
+import com.example.employee.dto.ImportReportDTO;
+import com.example.employee.dto.OrgNodeDTO;
+import com.example.employee.dto.SearchPageDTO;
+import com.example.employee.service.EmployeeExportService;
+import com.example.employee.service.EmployeeImportService;
 import com.example.employee.service.EmployeeService;
+import com.example.employee.service.EmployeeSyncService;
+import com.example.employee.service.ExportFormat;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/employees")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "http://localhost:4200")
+@CrossOrigin(origins = "http://localhost:4200", exposedHeaders = HttpHeaders.ETAG)
 @Tag(name = "Employee Management", description = "APIs for managing freelancers and their information")
 public class EmployeeController {
 
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    // List endpoints given ?view=summary return EmployeeSummaryDTO rows instead of full profiles
+    static final String SUMMARY_VIEW = "view=summary";
+
     private final EmployeeService employeeService;
+    private final EmployeeImportService employeeImportService;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeSyncService employeeSyncService;
+    private final BulkheadExecutor bulkheadExecutor;
 
     @GetMapping
     @Operation(summary = "Get all freelancers", description = "Retrieve a list of all registered freelancers")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Successfully retrieved list of freelancers")
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved list of freelancers"),
+        @ApiResponse(responseCode = "304", description = "The list has not changed since the given ETag")
+    })
+    public CompletableFuture<ResponseEntity<List<EmployeeDTO>>> getAllEmployees(
+            @Parameter(description = "ETag of a previously fetched list") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Version first: a write racing the list load yields a newer body under an older ETag, never the reverse
+        return bulkheadExecutor.submit(Bulkhead.READS, () -> ETags.conditional(ifNoneMatch,
+                ETags.of(employeeSyncService.directoryVersion()), employeeService::getAllEmployees));
+    }
+
+    @GetMapping(params = SUMMARY_VIEW)
+    @Operation(summary = "Get all freelancers (summary view)", description = "Name, email, domain, status and skills of every freelancer, without bank, PAN or salary data")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved list of freelancers"),
+        @ApiResponse(responseCode = "304", description = "The list has not changed since the given ETag")
     })
-    public ResponseEntity<List<EmployeeDTO>> getAllEmployees() {
-        return ResponseEntity.ok(employeeService.getAllEmployees());
+    public CompletableFuture<ResponseEntity<List<EmployeeSummaryDTO>>> getAllEmployeeSummaries(
+            @Parameter(description = "ETag of a previously fetched list") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return bulkheadExecutor.submit(Bulkhead.READS, () -> ETags.conditional(ifNoneMatch,
+                ETags.of(employeeSyncService.directoryVersion(), "summary"), employeeService::getAllEmployeeSummaries));
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Changes since a watermark", description = "Delta sync: employees created or updated and ids deleted since sinceToken. Without a token the first call pages through the whole directory.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Changes, the next token, and resyncRequired when the token is too old"),
+        @ApiResponse(responseCode = "400", description = "Invalid sync token")
+    })
+    public CompletableFuture<ResponseEntity<ChangesDTO>> getChanges(
+            @Parameter(description = "nextToken from the previous call") @RequestParam(required = false) String sinceToken,
+            @Parameter(description = "Maximum upserts per call, capped by the server") @RequestParam(required = false) Integer limit) {
+        return bulkheadExecutor.submit(Bulkhead.READS, () -> ResponseEntity.ok(employeeSyncService.getChanges(sinceToken, limit)));
+    }
+
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of freelancers", description = "Keyset-paginated listing with optional status, domain and company filters")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved page of freelancers"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or sort field, or a cursor used with other filters or another sort")
+    })
+    public CompletableFuture<ResponseEntity<CursorPageDTO<EmployeeDTO>>> getEmployeePage(
+            EmployeeFilter filter,
+            @Parameter(description = "Page size, capped by the server") @RequestParam(required = false) Integer size,
+            @Parameter(description = "Continuation token from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Sort field: employeeId, firstName, lastName, email or hireDate") @RequestParam(required = false) String sort,
+            @Parameter(description = "Sort direction: asc or desc") @RequestParam(required = false) String direction) {
+        return bulkheadExecutor.submit(Bulkhead.READS, () -> ResponseEntity.ok(employeeService.getEmployeePage(filter, size, cursor, sort, direction)));
+    }
+
+    @GetMapping(value = "/page", params = SUMMARY_VIEW)
+    @Operation(summary = "Get a page of freelancers (summary view)", description = "Keyset-paginated listing of the list view columns; cursors are interchangeable with the full view")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved page of freelancers"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or sort field, or a cursor used with other filters or another sort")
+    })
+    public CompletableFuture<ResponseEntity<CursorPageDTO<EmployeeSummaryDTO>>> getEmployeeSummaryPage(
+            EmployeeFilter filter,
+            @Parameter(description = "Page size, capped by the server") @RequestParam(required = false) Integer size,
+            @Parameter(description = "Continuation token from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Sort field: employeeId, firstName, lastName, email or hireDate") @RequestParam(required = false) String sort,
+            @Parameter(description = "Sort direction: asc or desc") @RequestParam(required = false) String direction) {
+        return bulkheadExecutor.submit(Bulkhead.READS, () -> ResponseEntity.ok(employeeService.getEmployeeSummaryPage(filter, size, cursor, sort, direction)));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export freelancers", description = "Stream the freelancer directory as NDJSON or CSV with optional column selection and the list filters")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed"),
+        @ApiResponse(responseCode = "400", description = "Unknown format or column")
+    })
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            EmployeeFilter filter,
+            @Parameter(description = "Output format: ndjson or csv") @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "Comma-separated fields to include, e.g. employeeId,email; all fields when omitted") @RequestParam(required = false) List<String> columns) {
+        ExportFormat exportFormat = ExportFormat.fromName(format);
+        StreamingResponseBody body = employeeExportService.export(filter, exportFormat, columns);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Typeahead search", description = "Ranked prefix and typo-tolerant search over names, email, domain and skills, served from the in-memory typeahead index")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Best matches first; empty when nothing matches")
+    })
+    public CompletableFuture<ResponseEntity<List<EmployeeDTO>>> typeahead(
+            @Parameter(description = "Text typed so far, e.g. \"jan smi\" or \"kubernet\"") @RequestParam("q") String query,
+            @Parameter(description = "Maximum number of results, capped by the server") @RequestParam(required = false) Integer limit) {
+        return bulkheadExecutor.submit(Bulkhead.SEARCHES, () -> ResponseEntity.ok(employeeService.typeahead(query, limit)));
+    }
+
+    @GetMapping(value = "/search", params = SUMMARY_VIEW)
+    @Operation(summary = "Typeahead search (summary view)", description = "Same ranking as the full view, returning only the list view columns")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Best matches first; empty when nothing matches")
+    })
+    public CompletableFuture<ResponseEntity<List<EmployeeSummaryDTO>>> typeaheadSummaries(
+            @Parameter(description = "Text typed so far, e.g. \"jan smi\" or \"kubernet\"") @RequestParam("q") String query,
+            @Parameter(description = "Maximum number of results, capped by the server") @RequestParam(required = false) Integer limit) {
+        return bulkheadExecutor.submit(Bulkhead.SEARCHES, () -> ResponseEntity.ok(employeeService.typeaheadSummaries(query, limit)));
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "Facet counts", description = "Employee counts by domain, status, companyId, designationId, skill and skillCategory, served from in-memory counters")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved facet counts"),
+        @ApiResponse(responseCode = "400", description = "Unknown facet or malformed filter")
+    })
+    public CompletableFuture<ResponseEntity<FacetCountsDTO>> getFacetCounts(
+            @Parameter(description = "Facets to count, comma separated; all when omitted") @RequestParam(required = false) List<String> facets,
+            @Parameter(description = "Only count employees with this value, e.g. domain:Web Development") @RequestParam(required = false) String filter) {
+        return bulkheadExecutor.submit(Bulkhead.READS, () -> ResponseEntity.ok(employeeService.getFacetCounts(facets, filter)));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get freelancer by ID", description = "Retrieve a specific freelancer by their ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved freelancer"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
         @ApiResponse(responseCode = "404", description = "Freelancer not found")
     })
-    public ResponseEntity<EmployeeDTO> getEmployeeById(
-            @Parameter(description = "ID of the freelancer to retrieve") @PathVariable Long id) {
-        return ResponseEntity.ok(employeeService.getEmployeeById(id));
+    public CompletableFuture<ResponseEntity<EmployeeDTO>> getEmployeeById(
+            @Parameter(description = "ID of the freelancer to retrieve") @PathVariable Long id,
+            @Parameter(description = "ETag of a previously fetched copy") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return bulkheadExecutor.submit(Bulkhead.READS, () -> {
+            EmployeeDTO employee = employeeService.getEmployeeById(id);
+            return ETags.conditional(ifNoneMatch, ETags.of(id, EmployeeSyncService.micros(employee.getUpdatedAt())), () -> employee);
+        });
     }
 
     @PostMapping
@@ -51,32 +198,113 @@ public class EmployeeController {
         @ApiResponse(responseCode = "201", description = "Freelancer successfully registered"),
         @ApiResponse(responseCode = "400", description = "Invalid input data")
     })
-    public ResponseEntity<EmployeeDTO> createEmployee(
+    public CompletableFuture<ResponseEntity<EmployeeDTO>> createEmployee(
             @Parameter(description = "Freelancer data to register") @Valid @RequestBody EmployeeDTO employeeDTO) {
-        return new ResponseEntity<>(employeeService.createEmployee(employeeDTO), HttpStatus.CREATED);
+        return bulkheadExecutor.submit(Bulkhead.WRITES,
+                () -> new ResponseEntity<>(employeeService.createEmployee(employeeDTO), HttpStatus.CREATED));
+    }
+
+    @PostMapping(value = "/import", consumes = {
+            MediaType.APPLICATION_JSON_VALUE,
+            EmployeeImportService.APPLICATION_NDJSON_VALUE,
+            EmployeeImportService.TEXT_CSV_VALUE})
+    @Operation(summary = "Bulk import freelancers", description = "Stream a JSON array, NDJSON or CSV file of freelancer records; invalid rows are reported individually")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished, see the report for rejected rows")
+    })
+    public CompletableFuture<ResponseEntity<ImportReportDTO>> importEmployees(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        return bulkheadExecutor.submit(Bulkhead.WRITES, () -> {
+            try {
+                return ResponseEntity.ok(employeeImportService.importEmployees(body, contentType));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<EmployeeDTO> updateEmployee(
+    public CompletableFuture<ResponseEntity<EmployeeDTO>> updateEmployee(
             @PathVariable Long id,
             @Valid @RequestBody EmployeeDTO employeeDTO) {
-        return ResponseEntity.ok(employeeService.updateEmployee(id, employeeDTO));
+        return bulkheadExecutor.submit(Bulkhead.WRITES, () -> ResponseEntity.ok(employeeService.updateEmployee(id, employeeDTO)));
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {EmployeeController.MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Partially update freelancer", description = "JSON Merge Patch: only the supplied fields change, null clears a field. Include version to fail with 409 if the profile changed since it was read.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Freelancer updated"),
+        @ApiResponse(responseCode = "400", description = "Malformed patch or invalid resulting profile"),
+        @ApiResponse(responseCode = "404", description = "Freelancer not found"),
+        @ApiResponse(responseCode = "409", description = "Version conflict with a concurrent update")
+    })
+    public CompletableFuture<ResponseEntity<EmployeeDTO>> patchEmployee(
+            @Parameter(description = "ID of the freelancer to update") @PathVariable Long id,
+            @Parameter(description = "Fields to change, e.g. {\"status\": \"Inactive\", \"version\": 3}") @RequestBody JsonNode patch) {
+        return bulkheadExecutor.submit(Bulkhead.WRITES, () -> ResponseEntity.ok(employeeService.patchEmployee(id, patch)));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteEmployee(@PathVariable Long id) {
-        employeeService.deleteEmployee(id);
-        return ResponseEntity.noContent().build();
+    public CompletableFuture<ResponseEntity<Void>> deleteEmployee(@PathVariable Long id) {
+        return bulkheadExecutor.submit(Bulkhead.WRITES, () -> {
+            employeeService.deleteEmployee(id);
+            return ResponseEntity.noContent().<Void>build();
+        });
     }
 
     @GetMapping("/manager/{managerId}")
-    public ResponseEntity<List<EmployeeDTO>> getEmployeesByManager(@PathVariable Long managerId) {
-        return ResponseEntity.ok(employeeService.getEmployeesByManager(managerId));
+    public CompletableFuture<ResponseEntity<List<EmployeeDTO>>> getEmployeesByManager(@PathVariable Long managerId) {
+        return bulkheadExecutor.submit(Bulkhead.READS, () -> ResponseEntity.ok(employeeService.getEmployeesByManager(managerId)));
+    }
+
+    @GetMapping(value = "/manager/{managerId}", params = SUMMARY_VIEW)
+    public CompletableFuture<ResponseEntity<List<EmployeeSummaryDTO>>> getEmployeeSummariesByManager(@PathVariable Long managerId) {
+        return bulkheadExecutor.submit(Bulkhead.READS, () -> ResponseEntity.ok(employeeService.getEmployeeSummariesByManager(managerId)));
+    }
+
+    @GetMapping("/{id}/reports")
+    @Operation(summary = "Get reporting tree", description = "The freelancer and everyone reporting to them, breadth first with depth, served from the in-memory hierarchy index")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved reporting tree"),
+        @ApiResponse(responseCode = "404", description = "Freelancer not found")
+    })
+    public CompletableFuture<ResponseEntity<List<OrgNodeDTO>>> getReportingTree(
+            @Parameter(description = "ID of the subtree root") @PathVariable Long id,
+            @Parameter(description = "Levels below the root to include, unlimited when omitted") @RequestParam(required = false) Integer maxDepth) {
+        return bulkheadExecutor.submit(Bulkhead.READS, () -> ResponseEntity.ok(employeeService.getReportingTree(id, maxDepth)));
+    }
+
+    @GetMapping("/{id}/managers")
+    @Operation(summary = "Get management chain", description = "Managers above the freelancer, nearest first, up to the top of the hierarchy")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved management chain"),
+        @ApiResponse(responseCode = "404", description = "Freelancer not found")
+    })
+    public CompletableFuture<ResponseEntity<List<OrgNodeDTO>>> getManagerChain(
+            @Parameter(description = "ID of the freelancer") @PathVariable Long id) {
+        return bulkheadExecutor.submit(Bulkhead.READS, () -> ResponseEntity.ok(employeeService.getManagerChain(id)));
+    }
+
+    @GetMapping("/{id}/headcount")
+    @Operation(summary = "Get subtree headcount", description = "Direct and total reports below the freelancer")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved headcount"),
+        @ApiResponse(responseCode = "404", description = "Freelancer not found")
+    })
+    public CompletableFuture<ResponseEntity<HeadcountDTO>> getHeadcount(
+            @Parameter(description = "ID of the subtree root") @PathVariable Long id) {
+        return bulkheadExecutor.submit(Bulkhead.READS, () -> ResponseEntity.ok(employeeService.getHeadcount(id)));
     }
 
     @GetMapping("/company/{companyId}")
-    public ResponseEntity<List<EmployeeDTO>> getEmployeesByCompany(@PathVariable Integer companyId) {
-        return ResponseEntity.ok(employeeService.getEmployeesByCompany(companyId));
+    public CompletableFuture<ResponseEntity<List<EmployeeDTO>>> getEmployeesByCompany(@PathVariable Integer companyId) {
+        return bulkheadExecutor.submit(Bulkhead.READS, () -> ResponseEntity.ok(employeeService.getEmployeesByCompany(companyId)));
+    }
+
+    @GetMapping(value = "/company/{companyId}", params = SUMMARY_VIEW)
+    public CompletableFuture<ResponseEntity<List<EmployeeSummaryDTO>>> getEmployeeSummariesByCompany(@PathVariable Integer companyId) {
+        return bulkheadExecutor.submit(Bulkhead.READS, () -> ResponseEntity.ok(employeeService.getEmployeeSummariesByCompany(companyId)));
     }
 
     @GetMapping("/freelancers/domain/{domain}")
@@ -84,9 +312,19 @@ public class EmployeeController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved freelancers by domain")
     })
-    public ResponseEntity<List<EmployeeDTO>> getFreelancersByDomain(
+    public CompletableFuture<ResponseEntity<List<EmployeeDTO>>> getFreelancersByDomain(
             @Parameter(description = "Domain to search for (e.g., Web Development, Data Science)") @PathVariable String domain) {
-        return ResponseEntity.ok(employeeService.getFreelancersByDomain(domain));
+        return bulkheadExecutor.submit(Bulkhead.READS, () -> ResponseEntity.ok(employeeService.getFreelancersByDomain(domain)));
+    }
+
+    @GetMapping(value = "/freelancers/domain/{domain}", params = SUMMARY_VIEW)
+    @Operation(summary = "Find freelancers by domain (summary view)", description = "List view columns of all freelancers working in a specific domain")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved freelancers by domain")
+    })
+    public CompletableFuture<ResponseEntity<List<EmployeeSummaryDTO>>> getFreelancerSummariesByDomain(
+            @Parameter(description = "Domain to search for (e.g., Web Development, Data Science)") @PathVariable String domain) {
+        return bulkheadExecutor.submit(Bulkhead.READS, () -> ResponseEntity.ok(employeeService.getFreelancerSummariesByDomain(domain)));
     }
 
     @GetMapping("/freelancers/skills/{skills}")
@@ -94,8 +332,44 @@ public class EmployeeController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved freelancers by skills")
     })
-    public ResponseEntity<List<EmployeeDTO>> getFreelancersBySkills(
+    public CompletableFuture<ResponseEntity<List<EmployeeDTO>>> getFreelancersBySkills(
+            @Parameter(description = "Skill to search for (e.g., JavaScript, Python)") @PathVariable String skills) {
+        return bulkheadExecutor.submit(Bulkhead.SEARCHES, () -> ResponseEntity.ok(employeeService.getFreelancersBySkills(skills)));
+    }
+
+    @GetMapping(value = "/freelancers/skills/{skills}", params = SUMMARY_VIEW)
+    @Operation(summary = "Find freelancers by skills (summary view)", description = "List view columns of freelancers who have a skill containing the given text")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved freelancers by skills")
+    })
+    public CompletableFuture<ResponseEntity<List<EmployeeSummaryDTO>>> getFreelancerSummariesBySkills(
             @Parameter(description = "Skill to search for (e.g., JavaScript, Python)") @PathVariable String skills) {
-        return ResponseEntity.ok(employeeService.getFreelancersBySkills(skills));
+        return bulkheadExecutor.submit(Bulkhead.SEARCHES, () -> ResponseEntity.ok(employeeService.getFreelancerSummariesBySkills(skills)));
+    }
+
+    @GetMapping("/freelancers/skills")
+    @Operation(summary = "Search freelancers by skill expression", description = "Boolean skill search, e.g. Java AND Kubernetes NOT PHP, served from the in-memory skill index")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved matching freelancers"),
+        @ApiResponse(responseCode = "400", description = "Malformed skill query")
+    })
+    public CompletableFuture<ResponseEntity<SearchPageDTO<EmployeeDTO>>> searchFreelancersBySkills(
+            @Parameter(description = "Skill expression using AND, OR, NOT and parentheses") @RequestParam("q") String query,
+            @Parameter(description = "Zero-based page number") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size, capped by the server") @RequestParam(required = false) Integer size) {
+        return bulkheadExecutor.submit(Bulkhead.SEARCHES, () -> ResponseEntity.ok(employeeService.searchFreelancersBySkills(query, page, size)));
+    }
+
+    @GetMapping(value = "/freelancers/skills", params = SUMMARY_VIEW)
+    @Operation(summary = "Search freelancers by skill expression (summary view)", description = "Boolean skill search returning only the list view columns")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved matching freelancers"),
+        @ApiResponse(responseCode = "400", description = "Malformed skill query")
+    })
+    public CompletableFuture<ResponseEntity<SearchPageDTO<EmployeeSummaryDTO>>> searchFreelancerSummariesBySkills(
+            @Parameter(description = "Skill expression using AND, OR, NOT and parentheses") @RequestParam("q") String query,
+            @Parameter(description = "Zero-based page number") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size, capped by the server") @RequestParam(required = false) Integer size) {
+        return bulkheadExecutor.submit(Bulkhead.SEARCHES, () -> ResponseEntity.ok(employeeService.searchFreelancerSummariesBySkills(query, page, size)));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,85 @@
+package com.example.employee.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+/**
+ * Stand-in for MySQL replication in the replicas-local profile, where the primary and the
+ * replicas are separate in-memory H2 databases. Copies the primary's schema into each
+ * replica once Hibernate has created it, then periodically replaces the replica's rows
+ * with the primary's through H2 linked tables. Each copy commits in one transaction, so
+ * replica readers see the previous snapshot until it completes, like a lagging replica.
+ */
+@Slf4j
+@Component
+@Profile("replicas-local")
+public class EmbeddedReplication {
+
+    private static final String LINK_PREFIX = "SOURCE_";
+
+    private final ReplicaRoutingDataSource routing;
+    private final JdbcTemplate primary;
+    private List<String> tables;
+
+    // The EntityManagerFactory dependency makes sure the primary schema exists
+    public EmbeddedReplication(ReplicaRoutingDataSource routing, EntityManagerFactory entityManagerFactory) {
+        this.routing = routing;
+        this.primary = new JdbcTemplate(routing.getPrimary());
+    }
+
+    @PostConstruct
+    void copySchema() {
+        tables = primary.queryForList(
+                "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'",
+                String.class);
+        List<String> ddl = primary.queryForList("SCRIPT NODATA NOPASSWORDS NOSETTINGS", String.class);
+        String url = routing.getPrimary().getJdbcUrl();
+        String user = routing.getPrimary().getUsername();
+        String password = routing.getPrimary().getPassword() == null ? "" : routing.getPrimary().getPassword();
+        routing.getReplicas().forEach((name, replica) -> {
+            JdbcTemplate jdbc = new JdbcTemplate(replica);
+            jdbc.execute("DROP ALL OBJECTS");
+            ddl.stream()
+                    .filter(statement -> !statement.startsWith("CREATE USER"))
+                    .forEach(jdbc::execute);
+            // Rows are copied table by table, so foreign keys would reject intermediate states
+            jdbc.execute("SET REFERENTIAL_INTEGRITY FALSE");
+            tables.forEach(table -> jdbc.execute("CREATE LINKED TABLE " + LINK_PREFIX + table + "('org.h2.Driver', "
+                    + literal(url) + ", " + literal(user) + ", " + literal(password) + ", 'PUBLIC', " + literal(table) + ") READONLY"));
+            log.info("Embedded replica {} created with {} tables", name, tables.size());
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void replicateBeforeIndexRebuilds() {
+        replicate();
+    }
+
+    public void replicate() {
+        routing.getReplicas().values().forEach(replica -> {
+            JdbcTemplate jdbc = new JdbcTemplate(replica);
+            new TransactionTemplate(new DataSourceTransactionManager(replica)).executeWithoutResult(status ->
+                    tables.forEach(table -> {
+                        jdbc.execute("DELETE FROM " + table);
+                        jdbc.execute("INSERT INTO " + table + " SELECT * FROM " + LINK_PREFIX + table);
+                    }));
+        });
+    }
+
+    private static String literal(String value) {
+        return "'" + value.replace("'", "''") + "'";
+    }
+}
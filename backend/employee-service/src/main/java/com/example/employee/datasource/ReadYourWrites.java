@@ -0,0 +1,71 @@
+package com.example.employee.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * Remembers which clients committed a write recently so their reads stay on the primary
+ * until the replicas have caught up. The client of the current thread is set by
+ * {@link ReadYourWritesFilter}; work that runs on another thread only keeps it if that
+ * thread is wrapped with {@link #wrap}.
+ */
+public class ReadYourWrites {
+
+    private static final ThreadLocal<String> CLIENT = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(Duration window, int maxClients) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxClients)
+                .build();
+    }
+
+    static void begin(String client) {
+        CLIENT.set(client);
+    }
+
+    static void end() {
+        CLIENT.remove();
+    }
+
+    /**
+     * Makes the given task act on behalf of the client that is current on the calling thread.
+     */
+    public static Runnable wrap(Runnable task) {
+        String client = CLIENT.get();
+        if (client == null) {
+            return task;
+        }
+        return () -> {
+            String previous = CLIENT.get();
+            CLIENT.set(client);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CLIENT.remove();
+                } else {
+                    CLIENT.set(previous);
+                }
+            }
+        };
+    }
+
+    static String currentClient() {
+        return CLIENT.get();
+    }
+
+    boolean wroteRecently(String client) {
+        return client != null && recentWriters.getIfPresent(client) != null;
+    }
+
+    void recordWrite(String client) {
+        if (client != null) {
+            recentWriters.put(client, Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.employee.datasource;
+
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Identifies the client of a request by the configured header. Requests without it are
+ * anonymous and always read from replicas when they can; keying on the remote address
+ * would pin everyone behind the gateway to the primary after any write.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final String clientIdHeader;
+
+    public ReadYourWritesFilter(String clientIdHeader) {
+        this.clientIdHeader = clientIdHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = request.getHeader(clientIdHeader);
+        if (!StringUtils.hasText(client)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        ReadYourWrites.begin(client);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.end();
+        }
+    }
+}
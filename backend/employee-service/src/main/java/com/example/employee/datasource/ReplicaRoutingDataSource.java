@@ -0,0 +1,189 @@
+package com.example.employee.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the healthy replicas in turn and everything else to the
+ * primary. Must sit behind a LazyConnectionDataSourceProxy: the read-only flag of a JPA
+ * transaction is only visible once the transaction has begun, which is after Hibernate
+ * asked for its connection.
+ *
+ * A replica that fails a health check or a connection attempt is skipped until a later
+ * health check succeeds. With no healthy replica, reads go to the primary.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements MeterBinder, DisposableBean {
+
+    private final HikariDataSource primary;
+    private final Map<String, HikariDataSource> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final Duration healthCheckTimeout;
+
+    private final Map<String, Boolean> healthy = new ConcurrentHashMap<>();
+    private volatile List<String> available;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private Counter primaryWrites;
+    private Counter primaryReads;
+    private Counter replicaReads;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, Map<String, HikariDataSource> replicas,
+                                    ReadYourWrites readYourWrites, Duration healthCheckTimeout) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.readYourWrites = readYourWrites;
+        this.healthCheckTimeout = healthCheckTimeout;
+        replicas.keySet().forEach(name -> healthy.put(name, true));
+        this.available = List.copyOf(replicas.keySet());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return writeConnection();
+        }
+        String client = ReadYourWrites.currentClient();
+        if (readYourWrites.wroteRecently(client)) {
+            increment(primaryReads);
+            return primary.getConnection();
+        }
+        List<String> candidates = available;
+        for (int attempt = 0; attempt < candidates.size(); attempt++) {
+            String name = candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+            try {
+                Connection connection = replicas.get(name).getConnection();
+                increment(replicaReads);
+                return connection;
+            } catch (SQLException ex) {
+                markDown(name, ex);
+            }
+        }
+        increment(primaryReads);
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("Replica routing uses the configured credentials");
+    }
+
+    private Connection writeConnection() throws SQLException {
+        String client = ReadYourWrites.currentClient();
+        if (client != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWrites.recordWrite(client);
+                }
+            });
+        }
+        increment(primaryWrites);
+        return primary.getConnection();
+    }
+
+    /**
+     * Validates a connection to every replica and brings recovered ones back into rotation.
+     */
+    public void checkReplicas() {
+        replicas.forEach((name, replica) -> {
+            try (Connection connection = replica.getConnection()) {
+                if (!connection.isValid((int) Math.max(1, healthCheckTimeout.toSeconds()))) {
+                    throw new SQLException("Connection validation failed");
+                }
+                if (!healthy.put(name, true)) {
+                    log.info("Read replica {} is healthy again", name);
+                    refreshAvailable();
+                }
+            } catch (SQLException ex) {
+                markDown(name, ex);
+            }
+        });
+    }
+
+    private void markDown(String name, SQLException cause) {
+        if (healthy.put(name, false)) {
+            log.warn("Read replica {} is unavailable, routing its reads elsewhere: {}", name, cause.getMessage());
+            refreshAvailable();
+        }
+    }
+
+    private synchronized void refreshAvailable() {
+        List<String> up = new ArrayList<>();
+        replicas.keySet().forEach(name -> {
+            if (healthy.get(name)) {
+                up.add(name);
+            }
+        });
+        available = List.copyOf(up);
+    }
+
+    HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    Map<String, HikariDataSource> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        primaryWrites = connections(registry, "primary", "write");
+        primaryReads = connections(registry, "primary", "read");
+        replicaReads = connections(registry, "replica", "read");
+        // Boot only instruments pools it finds among the DataSource beans
+        bindPoolMetrics(primary, registry);
+        replicas.forEach((name, replica) -> {
+            Gauge.builder("datasource.replica.healthy", healthy, map -> map.get(name) ? 1 : 0)
+                    .description("1 while the replica is in the read rotation")
+                    .tag("replica", name)
+                    .register(registry);
+            bindPoolMetrics(replica, registry);
+        });
+    }
+
+    private static void bindPoolMetrics(HikariDataSource pool, MeterRegistry registry) {
+        if (pool.getMetricRegistry() == null && pool.getMetricsTrackerFactory() == null) {
+            pool.setMetricRegistry(registry);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        replicas.values().forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    private static Counter connections(MeterRegistry registry, String target, String access) {
+        return Counter.builder("datasource.routing.connections")
+                .description("Connections handed out by the read/write router")
+                .tag("target", target)
+                .tag("access", access)
+                .register(registry);
+    }
+
+    private static void increment(Counter counter) {
+        // Null until the meter registry has bound this data source, e.g. during Hibernate bootstrap
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.employee.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ChangesDTO {
+    // Created or updated since the watermark, oldest change first
+    private List<EmployeeDTO> upserts = new ArrayList<>();
+    private List<Long> deletedIds = new ArrayList<>();
+    // Pass back as sinceToken; also returned when nothing changed
+    private String nextToken;
+    // More changes are ready now; fetch again with nextToken
+    private boolean hasMore;
+    // The watermark is older than the tombstone retention: reload the full list
+    private boolean resyncRequired;
+}
@@ -0,0 +1,13 @@
+package com.example.employee.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CursorPageDTO<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasMore;
+    private String nextCursor; // Opaque token for the next page, null on the last page
+}
@@ -1,10 +1,12 @@
 package com.example.employee.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
 import javax.validation.constraints.*;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Data
 public class EmployeeDTO {
@@ -62,4 +64,10 @@ public class EmployeeDTO {
     private String skillsString; // For display purposes
     private String domain;
     private String status;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime updatedAt;
+
+    // Optional on PUT and PATCH: when sent, the write fails with 409 if the row has moved on
+    private Long version;
 }
\ No newline at end of file
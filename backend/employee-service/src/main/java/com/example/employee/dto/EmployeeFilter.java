@@ -0,0 +1,10 @@
+package com.example.employee.dto;
+
+import lombok.Data;
+
+@Data
+public class EmployeeFilter {
+    private String status;
+    private String domain;
+    private Integer companyId;
+}
@@ -0,0 +1,25 @@
+package com.example.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * The columns list views render, selected by a projection query instead of loading the
+ * entity. Leaves out bank, PAN, salary and contact details.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSummaryDTO {
+    private Long employeeId;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String domain;
+    private String status;
+    private LocalDate hireDate; // Sortable on /page, so the cursor can be built from a summary row
+    private String skillsString;
+}
@@ -0,0 +1,17 @@
+package com.example.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountsDTO {
+    // Employees matching the filter, or all employees when there is none
+    private long total;
+    // Facet name to value to count, values ordered by descending count
+    private Map<String, Map<String, Long>> facets;
+}
@@ -0,0 +1,14 @@
+package com.example.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeadcountDTO {
+    private Long employeeId;
+    private int directReports;
+    private int totalReports;
+}
@@ -0,0 +1,17 @@
+package com.example.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrgNodeDTO {
+    private Long employeeId;
+    private Long managerId;
+    private String firstName;
+    private String lastName;
+    private Integer designationId;
+    private int depth;
+}
@@ -0,0 +1,13 @@
+package com.example.employee.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SearchPageDTO<T> {
+    private List<T> content;
+    private int page;
+    private int size;
+    private long totalMatches;
+}
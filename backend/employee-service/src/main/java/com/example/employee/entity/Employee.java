@@ -3,7 +3,10 @@ package com.example.employee.entity;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import javax.persistence.*;
@@ -16,11 +19,20 @@ import java.util.Set;
 
 @Data
 @Entity
-@Table(name = "Employee")
+@DynamicUpdate
+@Table(name = "Employee", indexes = {
+    @Index(name = "idx_employee_first_name_id", columnList = "first_name, employee_id"),
+    @Index(name = "idx_employee_last_name_id", columnList = "last_name, employee_id"),
+    @Index(name = "idx_employee_hire_date_id", columnList = "hire_date, employee_id"),
+    @Index(name = "idx_employee_company", columnList = "company_id"),
+    @Index(name = "idx_employee_updated_at_id", columnList = "updated_at, employee_id")
+})
 @EqualsAndHashCode(exclude = "skills")
 @ToString(exclude = "skills")
 public class Employee {
 
+    public static final String SKILLS_CACHE_REGION = "employee-skills";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "employee_id")
@@ -98,6 +110,7 @@ public class Employee {
     private String githubUrl;
 
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SKILLS_CACHE_REGION)
     @JoinTable(
         name = "EmployeeSkills",
         joinColumns = @JoinColumn(name = "employee_id"),
@@ -119,4 +132,9 @@ public class Employee {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    // The default lets ddl-auto add the column to tables that already have rows
+    @Version
+    @Column(name = "version", columnDefinition = "bigint default 0 not null")
+    private long version;
 }
\ No newline at end of file
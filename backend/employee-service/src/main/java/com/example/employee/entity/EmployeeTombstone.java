@@ -0,0 +1,33 @@
+package com.example.employee.entity;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Marks a deleted employee so delta sync clients learn about the delete. Kept for
+ * employee.sync.tombstone-retention; clients older than that must resync fully.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "employee_tombstone", indexes = {
+    @Index(name = "idx_employee_tombstone_deleted_at", columnList = "deleted_at")
+})
+public class EmployeeTombstone {
+
+    @Id
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @CreationTimestamp
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
+    public EmployeeTombstone(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+}
@@ -3,6 +3,8 @@ package com.example.employee.entity;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import javax.persistence.*;
@@ -14,10 +16,14 @@ import java.util.Set;
 @Data
 @Entity
 @Table(name = "Skills")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Skills.CACHE_REGION)
 @EqualsAndHashCode(exclude = "employees")
 @ToString(exclude = "employees")
 public class Skills {
 
+    public static final String CACHE_REGION = "skills";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "skill_id")
@@ -0,0 +1,43 @@
+package com.example.employee.event;
+
+import com.example.employee.entity.Employee;
+import com.example.employee.entity.Skills;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Published by EmployeeService on every write. Listeners that maintain in-memory
+ * views of the directory consume it after the surrounding transaction commits.
+ */
+@Getter
+public class EmployeeChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final Long employeeId;
+    private final Employee employee;
+    private final List<Skills> skills;
+
+    private EmployeeChangedEvent(Type type, Long employeeId, Employee employee, List<Skills> skills) {
+        this.type = type;
+        this.employeeId = employeeId;
+        this.employee = employee;
+        this.skills = skills;
+    }
+
+    public static EmployeeChangedEvent saved(Type type, Employee employee) {
+        // Copy the skills while the persistence context is still open
+        List<Skills> skills = employee.getSkills() == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(employee.getSkills()));
+        return new EmployeeChangedEvent(type, employee.getEmployeeId(), employee, skills);
+    }
+
+    public static EmployeeChangedEvent deleted(Long employeeId) {
+        return new EmployeeChangedEvent(Type.DELETED, employeeId, null, Collections.emptyList());
+    }
+}
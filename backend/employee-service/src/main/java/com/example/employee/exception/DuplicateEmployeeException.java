@@ -0,0 +1,18 @@
+package com.example.employee.exception;
+
+import lombok.Getter;
+
+/**
+ * A registration or update would reuse a unique key (email, PAN or bank account)
+ * that belongs to another employee.
+ */
+@Getter
+public class DuplicateEmployeeException extends RuntimeException {
+
+    private final String field;
+
+    public DuplicateEmployeeException(String field, String value) {
+        super("An employee with " + field + " " + value + " is already registered");
+        this.field = field;
+    }
+}
@@ -1,20 +1,42 @@
 package com.example.employee.exception;
 
+import com.example.employee.bulkhead.BulkheadFullException;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.Constraint;
+import org.hibernate.mapping.Table;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import javax.persistence.EntityNotFoundException;
+import javax.validation.ConstraintViolationException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // employee_db.sql declares the keys inline, so MySQL names them after their columns
+    private static final Map<String, String> UNIQUE_COLUMN_FIELDS = Map.of(
+        "email", "email",
+        "bank_account_number", "bankAccountNumber",
+        "pan_number", "panNumber"
+    );
+    // Schemas created by ddl-auto carry the keys under Hibernate's hashed UK_ names
+    private static final Map<String, String> UNIQUE_KEY_FIELDS = UNIQUE_COLUMN_FIELDS.entrySet().stream()
+        .collect(Collectors.toMap(entry -> hibernateKeyName(entry.getKey()), Map.Entry::getValue));
+
     @ExceptionHandler(EntityNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ErrorResponse handleEntityNotFound(EntityNotFoundException ex) {
@@ -25,6 +47,88 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleInvalidRequest(InvalidRequestException ex) {
+        ErrorResponse response = new ErrorResponse(
+            HttpStatus.BAD_REQUEST.value(),
+            ex.getMessage(),
+            LocalDateTime.now()
+        );
+        response.setField(ex.getField());
+        return response;
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        return new ErrorResponse(
+            HttpStatus.CONFLICT.value(),
+            "The employee was modified by another request; reload it and retry",
+            LocalDateTime.now()
+        );
+    }
+
+    @ExceptionHandler(DuplicateEmployeeException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleDuplicateEmployee(DuplicateEmployeeException ex) {
+        ErrorResponse response = new ErrorResponse(
+            HttpStatus.CONFLICT.value(),
+            ex.getMessage(),
+            LocalDateTime.now()
+        );
+        response.setField(ex.getField());
+        return response;
+    }
+
+    // Two registrations racing past the pre-check still end on the unique constraints; any
+    // other violation is rethrown to the default error handling
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        String field = conflictingField(ex);
+        if (field == null) {
+            throw ex;
+        }
+        ErrorResponse response = new ErrorResponse(
+            HttpStatus.CONFLICT.value(),
+            "An employee with this " + field + " is already registered",
+            LocalDateTime.now()
+        );
+        response.setField(field);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    private static String conflictingField(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof org.hibernate.exception.ConstraintViolationException violation
+                    && violation.getConstraintName() != null) {
+                // MySQL reports employee.UK_..., H2 the index name followed by the statement
+                String constraint = violation.getConstraintName().toLowerCase(Locale.ROOT);
+                return UNIQUE_KEY_FIELDS.entrySet().stream()
+                    .filter(entry -> constraint.contains(entry.getKey()))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElse(UNIQUE_COLUMN_FIELDS.get(constraint.substring(constraint.lastIndexOf('.') + 1)));
+            }
+        }
+        return null;
+    }
+
+    private static String hibernateKeyName(String column) {
+        return Constraint.generateName("UK_", new Table("employee"), new Column(column)).toLowerCase(Locale.ROOT);
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleBulkheadFull(BulkheadFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+            .body(new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+            ));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Map<String, String> handleValidationExceptions(MethodArgumentNotValidException ex) {
@@ -35,10 +139,23 @@ public class GlobalExceptionHandler {
         return errors;
     }
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> handleConstraintViolations(ConstraintViolationException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getConstraintViolations().forEach(violation ->
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage())
+        );
+        return errors;
+    }
+
     @Data
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     static class ErrorResponse {
         private final int status;
         private final String message;
         private final LocalDateTime timestamp;
+        // The conflicting or invalid request field, when there is a single one
+        private String field;
     }
 }
\ No newline at end of file
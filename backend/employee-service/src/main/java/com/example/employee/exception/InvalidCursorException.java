@@ -0,0 +1,12 @@
+package com.example.employee.exception;
+
+/**
+ * A pagination cursor or sync token that is malformed, or that was issued for a different
+ * sort order or filter than the request now asks for.
+ */
+public class InvalidCursorException extends InvalidRequestException {
+
+    public InvalidCursorException(String field, String message) {
+        super(field, message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.employee.exception;
+
+import lombok.Getter;
+
+/**
+ * A request parameter or body the client has to fix, answered with 400 and this message.
+ * Only thrown for input checks; other IllegalArgumentExceptions stay server errors.
+ */
+@Getter
+public class InvalidRequestException extends RuntimeException {
+
+    private final String field;
+
+    public InvalidRequestException(String message) {
+        this(null, message);
+    }
+
+    public InvalidRequestException(String field, String message) {
+        super(message);
+        this.field = field;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.employee.index;
+
+import com.example.employee.exception.InvalidRequestException;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public enum Facet {
+    DOMAIN("domain"),
+    STATUS("status"),
+    COMPANY("companyId"),
+    DESIGNATION("designationId"),
+    SKILL("skill"),
+    SKILL_CATEGORY("skillCategory");
+
+    private final String paramName;
+
+    Facet(String paramName) {
+        this.paramName = paramName;
+    }
+
+    public String getParamName() {
+        return paramName;
+    }
+
+    public static Facet fromName(String name) {
+        return Arrays.stream(values())
+                .filter(facet -> facet.paramName.equalsIgnoreCase(name.trim()))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("Unknown facet: " + name + ", expected one of "
+                        + Arrays.stream(values()).map(Facet::getParamName).collect(Collectors.joining(", "))));
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.employee.index;
+
+import com.example.employee.dto.FacetCountsDTO;
+import com.example.employee.entity.Employee;
+import com.example.employee.entity.Skills;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.repository.EmployeeFacetRow;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.EmployeeSkillRow;
+import com.example.employee.repository.SkillsRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Counts of employees per facet value, plus the pairwise co-occurrence counts that
+ * answer "facet X within value v of facet Y". Both are adjusted on every write, so a
+ * query costs the number of distinct values it returns, not the size of the table.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FacetIndex extends ReconcilingIndex<FacetIndex.Counters> implements MeterBinder {
+
+    private final EmployeeRepository employeeRepository;
+    private final SkillsRepository skillsRepository;
+
+    private Counters counters = new Counters();
+    private final AtomicLong lastDrift = new AtomicLong();
+
+    @Override
+    protected Counters load() {
+        Map<Long, String> categories = new HashMap<>();
+        for (Skills skill : skillsRepository.findAll()) {
+            categories.put(skill.getSkillId(), skill.getCategory());
+        }
+        Map<Long, Set<FacetValue>> values = new HashMap<>();
+        try (Stream<EmployeeFacetRow> rows = employeeRepository.streamAllFacetRows()) {
+            rows.forEach(row -> values.put(row.getEmployeeId(), employeeValues(row.getDomain(), row.getStatus(),
+                    row.getCompanyId(), row.getDesignationId())));
+        }
+        try (Stream<EmployeeSkillRow> rows = employeeRepository.streamAllSkillRows()) {
+            rows.forEach(row -> {
+                Set<FacetValue> employee = values.get(row.getEmployeeId());
+                if (employee != null) {
+                    addSkill(employee, row.getSkillName(), categories.get(row.getSkillId()));
+                }
+            });
+        }
+        Counters rebuilt = new Counters();
+        values.forEach(rebuilt::add);
+        return rebuilt;
+    }
+
+    @Override
+    protected void carryOver(Counters rebuilt, Long employeeId) {
+        rebuilt.remove(employeeId);
+        Set<FacetValue> live = counters.values.get(employeeId);
+        if (live != null) {
+            rebuilt.add(employeeId, live);
+        }
+    }
+
+    @Override
+    protected void install(Counters rebuilt) {
+        long drift = counters.drift(rebuilt);
+        lastDrift.set(drift);
+        if (drift > 0 && !counters.values.isEmpty()) {
+            log.warn("Facet counters drifted by {} from the database, replaced", drift);
+        }
+        counters = rebuilt;
+    }
+
+    @Override
+    protected void rebuilt(Counters rebuilt) {
+        log.info("Facet index built: {} employees, {} facet values", rebuilt.total, rebuilt.counts.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        Set<FacetValue> values;
+        if (event.getType() != EmployeeChangedEvent.Type.DELETED) {
+            Employee employee = event.getEmployee();
+            values = employeeValues(employee.getDomain(), employee.getStatus(), employee.getCompanyId(),
+                    employee.getDesignationId());
+            for (Skills skill : event.getSkills()) {
+                addSkill(values, skill.getSkillName(), skill.getCategory());
+            }
+        } else {
+            values = null;
+        }
+
+        update(event.getEmployeeId(), () -> {
+            counters.remove(event.getEmployeeId());
+            if (values != null) {
+                counters.add(event.getEmployeeId(), values);
+            }
+        });
+    }
+
+    /**
+     * Counts for the requested facets, restricted to employees having {@code filterValue}
+     * for {@code filterFacet} when a filter is given.
+     */
+    public FacetCountsDTO counts(Collection<Facet> facets, Facet filterFacet, String filterValue) {
+        lock.readLock().lock();
+        try {
+            Map<FacetValue, Long> source;
+            long total;
+            if (filterFacet == null) {
+                source = counters.counts;
+                total = counters.total;
+            } else {
+                FacetValue filter = new FacetValue(filterFacet, filterValue);
+                source = counters.cooccurrence.getOrDefault(filter, Map.of());
+                total = counters.counts.getOrDefault(filter, 0L);
+            }
+
+            Map<Facet, List<Map.Entry<FacetValue, Long>>> grouped = new LinkedHashMap<>();
+            facets.forEach(facet -> grouped.put(facet, new ArrayList<>()));
+            source.entrySet().forEach(entry -> {
+                List<Map.Entry<FacetValue, Long>> entries = grouped.get(entry.getKey().facet);
+                if (entries != null) {
+                    entries.add(entry);
+                }
+            });
+
+            Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+            grouped.forEach((facet, entries) -> {
+                entries.sort(Map.Entry.<FacetValue, Long>comparingByValue().reversed()
+                        .thenComparing(entry -> entry.getKey().value));
+                Map<String, Long> counts = new LinkedHashMap<>();
+                entries.forEach(entry -> counts.put(entry.getKey().value, entry.getValue()));
+                result.put(facet.getParamName(), counts);
+            });
+            return new FacetCountsDTO(total, result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("facets.reconcile.drift", lastDrift, AtomicLong::get)
+                .description("Sum of count differences found by the last facet reconciliation")
+                .register(registry);
+    }
+
+    private static Set<FacetValue> employeeValues(String domain, String status, Integer companyId, Integer designationId) {
+        Set<FacetValue> values = new LinkedHashSet<>();
+        addValue(values, Facet.DOMAIN, domain);
+        addValue(values, Facet.STATUS, status);
+        addValue(values, Facet.COMPANY, companyId == null ? null : companyId.toString());
+        addValue(values, Facet.DESIGNATION, designationId == null ? null : designationId.toString());
+        return values;
+    }
+
+    private static void addSkill(Set<FacetValue> values, String skillName, String category) {
+        addValue(values, Facet.SKILL, skillName);
+        addValue(values, Facet.SKILL_CATEGORY, category);
+    }
+
+    private static void addValue(Set<FacetValue> values, Facet facet, String value) {
+        if (value != null && !value.isBlank()) {
+            values.add(new FacetValue(facet, value.trim()));
+        }
+    }
+
+    @EqualsAndHashCode
+    private static final class FacetValue {
+        private final Facet facet;
+        private final String value;
+
+        private FacetValue(Facet facet, String value) {
+            this.facet = facet;
+            this.value = value;
+        }
+    }
+
+    static final class Counters {
+        private final Map<Long, Set<FacetValue>> values = new HashMap<>();
+        private final Map<FacetValue, Long> counts = new HashMap<>();
+        private final Map<FacetValue, Map<FacetValue, Long>> cooccurrence = new HashMap<>();
+        private long total;
+
+        void add(Long employeeId, Set<FacetValue> employeeValues) {
+            values.put(employeeId, employeeValues);
+            total++;
+            for (FacetValue value : employeeValues) {
+                counts.merge(value, 1L, Long::sum);
+                Map<FacetValue, Long> pairs = cooccurrence.computeIfAbsent(value, v -> new HashMap<>());
+                for (FacetValue other : employeeValues) {
+                    pairs.merge(other, 1L, Long::sum);
+                }
+            }
+        }
+
+        void remove(Long employeeId) {
+            Set<FacetValue> employeeValues = values.remove(employeeId);
+            if (employeeValues == null) {
+                return;
+            }
+            total--;
+            for (FacetValue value : employeeValues) {
+                decrement(counts, value);
+                Map<FacetValue, Long> pairs = cooccurrence.get(value);
+                for (FacetValue other : employeeValues) {
+                    decrement(pairs, other);
+                }
+                if (pairs.isEmpty()) {
+                    cooccurrence.remove(value);
+                }
+            }
+        }
+
+        long drift(Counters other) {
+            long drift = Math.abs(total - other.total);
+            Set<FacetValue> keys = new HashSet<>(counts.keySet());
+            keys.addAll(other.counts.keySet());
+            for (FacetValue key : keys) {
+                drift += Math.abs(counts.getOrDefault(key, 0L) - other.counts.getOrDefault(key, 0L));
+            }
+            return drift;
+        }
+
+        private static void decrement(Map<FacetValue, Long> counts, FacetValue value) {
+            counts.computeIfPresent(value, (key, count) -> count == 1 ? null : count - 1);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.employee.index;
+
+import com.example.employee.dto.HeadcountDTO;
+import com.example.employee.dto.OrgNodeDTO;
+import com.example.employee.entity.Employee;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.repository.EmployeeHierarchyRow;
+import com.example.employee.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Adjacency index over Employee.managerId so whole reporting trees are answered from
+ * memory instead of one /manager/{id} round trip per level. Traversals keep a visited
+ * set, so a cycle that reaches the data anyway (e.g. two concurrent updates) cannot
+ * make them loop.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ManagerHierarchyIndex extends ReconcilingIndex<ManagerHierarchyIndex.Hierarchy> {
+
+    private final EmployeeRepository employeeRepository;
+
+    private Hierarchy live = new Hierarchy();
+
+    @Override
+    protected Hierarchy load() {
+        Hierarchy rebuilt = new Hierarchy();
+        try (Stream<EmployeeHierarchyRow> rows = employeeRepository.streamAllHierarchyRows()) {
+            rows.forEach(row -> rebuilt.link(new Node(row.getEmployeeId(), row.getManagerId(),
+                    row.getFirstName(), row.getLastName(), row.getDesignationId())));
+        }
+        return rebuilt;
+    }
+
+    @Override
+    protected void carryOver(Hierarchy rebuilt, Long employeeId) {
+        rebuilt.unlink(employeeId);
+        Node node = live.nodes.get(employeeId);
+        if (node != null) {
+            rebuilt.link(node);
+        }
+    }
+
+    @Override
+    protected void install(Hierarchy rebuilt) {
+        live = rebuilt;
+    }
+
+    @Override
+    protected void rebuilt(Hierarchy rebuilt) {
+        log.info("Manager hierarchy index built: {} employees, {} managers", rebuilt.nodes.size(),
+                rebuilt.reports.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        update(event.getEmployeeId(), () -> {
+            live.unlink(event.getEmployeeId());
+            if (event.getType() == EmployeeChangedEvent.Type.DELETED) {
+                return;
+            }
+            Employee employee = event.getEmployee();
+            live.link(new Node(employee.getEmployeeId(), employee.getManagerId(),
+                    employee.getFirstName(), employee.getLastName(), employee.getDesignationId()));
+        });
+    }
+
+    /**
+     * The employee and everyone reporting to it directly or indirectly, breadth first,
+     * with depth 0 for the root. Empty if the employee is unknown.
+     */
+    public Optional<List<OrgNodeDTO>> subtree(Long employeeId, int maxDepth) {
+        lock.readLock().lock();
+        try {
+            Node root = live.nodes.get(employeeId);
+            if (root == null) {
+                return Optional.empty();
+            }
+            List<OrgNodeDTO> result = new ArrayList<>();
+            Set<Long> visited = new HashSet<>();
+            Deque<OrgNodeDTO> queue = new ArrayDeque<>();
+            visited.add(employeeId);
+            queue.add(root.toDto(0));
+            while (!queue.isEmpty()) {
+                OrgNodeDTO current = queue.poll();
+                result.add(current);
+                if (current.getDepth() >= maxDepth) {
+                    continue;
+                }
+                for (Long reportId : live.reports.getOrDefault(current.getEmployeeId(), Collections.emptySet())) {
+                    Node report = live.nodes.get(reportId);
+                    if (report != null && visited.add(reportId)) {
+                        queue.add(report.toDto(current.getDepth() + 1));
+                    }
+                }
+            }
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Managers above the employee, nearest first, up to the root. Empty if the
+     * employee is unknown; stops early if the chain loops.
+     */
+    public Optional<List<OrgNodeDTO>> managerChain(Long employeeId) {
+        lock.readLock().lock();
+        try {
+            Node node = live.nodes.get(employeeId);
+            if (node == null) {
+                return Optional.empty();
+            }
+            List<OrgNodeDTO> chain = new ArrayList<>();
+            Set<Long> visited = new HashSet<>();
+            visited.add(employeeId);
+            int level = 0;
+            while (node.managerId != null) {
+                if (!visited.add(node.managerId)) {
+                    log.warn("Manager cycle detected above employee {}", employeeId);
+                    break;
+                }
+                node = live.nodes.get(node.managerId);
+                if (node == null) {
+                    break;
+                }
+                chain.add(node.toDto(++level));
+            }
+            return Optional.of(chain);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<HeadcountDTO> headcount(Long employeeId) {
+        lock.readLock().lock();
+        try {
+            if (!live.nodes.containsKey(employeeId)) {
+                return Optional.empty();
+            }
+            int directReports = 0;
+            Set<Long> visited = new HashSet<>();
+            Deque<Long> queue = new ArrayDeque<>();
+            visited.add(employeeId);
+            queue.add(employeeId);
+            while (!queue.isEmpty()) {
+                Long current = queue.poll();
+                for (Long reportId : live.reports.getOrDefault(current, Collections.emptySet())) {
+                    if (live.nodes.containsKey(reportId) && visited.add(reportId)) {
+                        queue.add(reportId);
+                        if (current.equals(employeeId)) {
+                            directReports++;
+                        }
+                    }
+                }
+            }
+            return Optional.of(new HeadcountDTO(employeeId, directReports, visited.size() - 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static final class Hierarchy {
+        private final Map<Long, Node> nodes = new HashMap<>();
+        // Keyed by manager id, which may belong to an employee that no longer exists
+        private final Map<Long, Set<Long>> reports = new HashMap<>();
+
+        void link(Node node) {
+            nodes.put(node.employeeId, node);
+            if (node.managerId != null) {
+                reports.computeIfAbsent(node.managerId, id -> new LinkedHashSet<>()).add(node.employeeId);
+            }
+        }
+
+        void unlink(Long employeeId) {
+            Node previous = nodes.remove(employeeId);
+            if (previous == null || previous.managerId == null) {
+                return;
+            }
+            Set<Long> siblings = reports.get(previous.managerId);
+            if (siblings != null) {
+                siblings.remove(employeeId);
+                if (siblings.isEmpty()) {
+                    reports.remove(previous.managerId);
+                }
+            }
+        }
+    }
+
+    private static final class Node {
+        private final Long employeeId;
+        private final Long managerId;
+        private final String firstName;
+        private final String lastName;
+        private final Integer designationId;
+
+        private Node(Long employeeId, Long managerId, String firstName, String lastName, Integer designationId) {
+            this.employeeId = employeeId;
+            this.managerId = managerId;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.designationId = designationId;
+        }
+
+        private OrgNodeDTO toDto(int depth) {
+            return new OrgNodeDTO(employeeId, managerId, firstName, lastName, designationId, depth);
+        }
+    }
+}
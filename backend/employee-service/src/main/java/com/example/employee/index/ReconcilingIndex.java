@@ -0,0 +1,96 @@
+package com.example.employee.index;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An in-memory view of the employee table that is updated from write events and
+ * rebuilt from a database snapshot at startup and periodically, so each replica picks
+ * up writes made through the others and any drift is corrected.
+ * <p>
+ * The snapshot is loaded without holding the lock. Employees written meanwhile are
+ * recorded, and when the rebuilt state is swapped in under the write lock they keep
+ * their live entries, which are newer than the snapshot.
+ *
+ * @param <S> the rebuilt state, private to the rebuild until it is installed
+ */
+public abstract class ReconcilingIndex<S> {
+
+    protected final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Set<Long> changedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            S rebuilt = load();
+            lock.writeLock().lock();
+            try {
+                for (Long employeeId : changedDuringRebuild) {
+                    carryOver(rebuilt, employeeId);
+                }
+                install(rebuilt);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            rebuilt(rebuilt);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Applies a change to one employee under the write lock.
+     */
+    protected void update(Long employeeId, Runnable change) {
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(employeeId);
+            }
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reads the current database state into a new, not yet visible state.
+     */
+    protected abstract S load();
+
+    /**
+     * Replaces what {@code rebuilt} has for the employee with the live entry, or removes
+     * it if there is none. Called under the write lock.
+     */
+    protected abstract void carryOver(S rebuilt, Long employeeId);
+
+    /**
+     * Makes the rebuilt state the live one. Called under the write lock.
+     */
+    protected abstract void install(S rebuilt);
+
+    /**
+     * Called after the rebuilt state was installed, without the lock.
+     */
+    protected void rebuilt(S rebuilt) {
+    }
+}
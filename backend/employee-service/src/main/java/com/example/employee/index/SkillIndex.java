@@ -0,0 +1,124 @@
+package com.example.employee.index;
+
+import com.example.employee.entity.Skills;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.EmployeeSkillRow;
+import com.example.employee.repository.SkillsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Inverted index from skill to the ids of the employees that have it, kept as
+ * compressed bitmaps so boolean skill queries cost proportional to the matches.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillIndex extends ReconcilingIndex<SkillIndex.Postings> {
+
+    private final EmployeeRepository employeeRepository;
+    private final SkillsRepository skillsRepository;
+
+    private Postings live = new Postings();
+
+    @Override
+    protected Postings load() {
+        Postings rebuilt = new Postings();
+        for (Skills skill : skillsRepository.findAll()) {
+            rebuilt.skillIdsByName.put(normalize(skill.getSkillName()), skill.getSkillId());
+        }
+        try (Stream<Long> ids = employeeRepository.streamAllIds()) {
+            ids.forEach(rebuilt.allEmployees::addLong);
+        }
+        try (Stream<EmployeeSkillRow> rows = employeeRepository.streamAllSkillRows()) {
+            rows.forEach(row -> rebuilt.postings.computeIfAbsent(row.getSkillId(), skillId -> new Roaring64Bitmap())
+                    .addLong(row.getEmployeeId()));
+        }
+        return rebuilt;
+    }
+
+    @Override
+    protected void carryOver(Postings rebuilt, Long employeeId) {
+        rebuilt.remove(employeeId);
+        if (live.allEmployees.contains(employeeId)) {
+            rebuilt.allEmployees.addLong(employeeId);
+            live.postings.forEach((skillId, bitmap) -> {
+                if (bitmap.contains(employeeId)) {
+                    rebuilt.postings.computeIfAbsent(skillId, s -> new Roaring64Bitmap()).addLong(employeeId);
+                }
+            });
+        }
+    }
+
+    @Override
+    protected void install(Postings rebuilt) {
+        live.skillIdsByName.forEach(rebuilt.skillIdsByName::putIfAbsent);
+        rebuilt.postings.values().forEach(Roaring64Bitmap::runOptimize);
+        live = rebuilt;
+    }
+
+    @Override
+    protected void rebuilt(Postings rebuilt) {
+        log.info("Skill index built: {} employees, {} skills", rebuilt.allEmployees.getLongCardinality(),
+                rebuilt.postings.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        long id = event.getEmployeeId();
+        update(id, () -> {
+            live.remove(id);
+            if (event.getType() == EmployeeChangedEvent.Type.DELETED) {
+                return;
+            }
+            live.allEmployees.addLong(id);
+            for (Skills skill : event.getSkills()) {
+                live.skillIdsByName.putIfAbsent(normalize(skill.getSkillName()), skill.getSkillId());
+                live.postings.computeIfAbsent(skill.getSkillId(), skillId -> new Roaring64Bitmap()).addLong(id);
+            }
+        });
+    }
+
+    /**
+     * Evaluates a boolean skill query such as {@code Java AND Kubernetes NOT PHP}.
+     * The returned bitmap is a private copy the caller may keep.
+     */
+    public Roaring64Bitmap search(String query) {
+        lock.readLock().lock();
+        try {
+            return new SkillQueryParser(query, this::lookup, live.allEmployees).parse();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Roaring64Bitmap lookup(String skillName) {
+        Long skillId = live.skillIdsByName.get(normalize(skillName));
+        Roaring64Bitmap bitmap = skillId == null ? null : live.postings.get(skillId);
+        return bitmap == null ? new Roaring64Bitmap() : bitmap.clone();
+    }
+
+    private static String normalize(String skillName) {
+        return skillName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static final class Postings {
+        private final Map<Long, Roaring64Bitmap> postings = new HashMap<>();
+        private final Map<String, Long> skillIdsByName = new HashMap<>();
+        private final Roaring64Bitmap allEmployees = new Roaring64Bitmap();
+
+        void remove(long employeeId) {
+            allEmployees.removeLong(employeeId);
+            postings.values().forEach(bitmap -> bitmap.removeLong(employeeId));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.employee.index;
+
+import com.example.employee.exception.InvalidRequestException;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Recursive-descent evaluator for skill queries.
+ *
+ * <pre>
+ * query   := and (OR and)*
+ * and     := unary ((AND | NOT) unary)*      "A NOT B" means A AND NOT B
+ * unary   := NOT unary | '(' query ')' | skill
+ * skill   := "quoted name" | words up to the next operator or parenthesis
+ * </pre>
+ *
+ * Operators are matched case-sensitively so skill names like "Not Only SQL" still work.
+ */
+class SkillQueryParser {
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+
+    private final List<String> tokens;
+    private final Function<String, Roaring64Bitmap> lookup;
+    private final Roaring64Bitmap universe;
+    private int position;
+
+    SkillQueryParser(String query, Function<String, Roaring64Bitmap> lookup, Roaring64Bitmap universe) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("q", "Skill query must not be empty");
+        }
+        this.tokens = tokenize(query);
+        this.lookup = lookup;
+        this.universe = universe;
+    }
+
+    Roaring64Bitmap parse() {
+        Roaring64Bitmap result = parseOr();
+        if (position < tokens.size()) {
+            throw new InvalidRequestException("q", "Unexpected token in skill query: " + tokens.get(position));
+        }
+        return result;
+    }
+
+    private Roaring64Bitmap parseOr() {
+        Roaring64Bitmap result = parseAnd();
+        while (accept(OR)) {
+            result.or(parseAnd());
+        }
+        return result;
+    }
+
+    private Roaring64Bitmap parseAnd() {
+        Roaring64Bitmap result = parseUnary();
+        while (true) {
+            if (accept(AND)) {
+                result.and(parseUnary());
+            } else if (accept(NOT)) {
+                result.andNot(parseUnary());
+            } else {
+                return result;
+            }
+        }
+    }
+
+    private Roaring64Bitmap parseUnary() {
+        if (accept(NOT)) {
+            Roaring64Bitmap result = universe.clone();
+            result.andNot(parseUnary());
+            return result;
+        }
+        if (accept("(")) {
+            Roaring64Bitmap result = parseOr();
+            if (!accept(")")) {
+                throw new InvalidRequestException("q", "Missing closing parenthesis in skill query");
+            }
+            return result;
+        }
+        if (position >= tokens.size() || isReserved(tokens.get(position))) {
+            throw new InvalidRequestException("q", "Expected a skill name in skill query");
+        }
+        return lookup.apply(tokens.get(position++));
+    }
+
+    private boolean accept(String token) {
+        if (position < tokens.size() && tokens.get(position).equals(token)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isReserved(String token) {
+        return token.equals(AND) || token.equals(OR) || token.equals(NOT) || token.equals("(") || token.equals(")");
+    }
+
+    private static List<String> tokenize(String query) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder skill = new StringBuilder();
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (c == '"') {
+                int end = query.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw new InvalidRequestException("q", "Unterminated quote in skill query");
+                }
+                flush(skill, tokens);
+                tokens.add(query.substring(i + 1, end));
+                i = end + 1;
+            } else if (c == '(' || c == ')') {
+                flush(skill, tokens);
+                tokens.add(String.valueOf(c));
+                i++;
+            } else if (Character.isWhitespace(c)) {
+                i++;
+            } else {
+                int end = i;
+                while (end < query.length() && !Character.isWhitespace(query.charAt(end))
+                        && "()\"".indexOf(query.charAt(end)) < 0) {
+                    end++;
+                }
+                String word = query.substring(i, end);
+                if (isReserved(word)) {
+                    flush(skill, tokens);
+                    tokens.add(word);
+                } else {
+                    if (skill.length() > 0) {
+                        skill.append(' ');
+                    }
+                    skill.append(word);
+                }
+                i = end;
+            }
+        }
+        flush(skill, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder skill, List<String> tokens) {
+        if (skill.length() > 0) {
+            tokens.add(skill.toString());
+            skill.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,641 @@
+package com.example.employee.index;
+
+import com.example.employee.config.EmployeeProperties;
+import com.example.employee.entity.Employee;
+import com.example.employee.entity.Skills;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.EmployeeSearchRow;
+import com.example.employee.repository.EmployeeSkillRow;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Typeahead index over names, email, domain and skill names. Distinct tokens form a
+ * sorted term dictionary with one posting bitmap per field; prefixes are answered by a
+ * range scan of the dictionary and typos by a bigram index over the terms, whose
+ * candidates are verified with a bounded edit distance. Ranking works on score tiers
+ * (match kind times field weight) rather than on individual employees, so the cost of
+ * a query depends on the number of matching terms, not on the number of matches.
+ */
+@Slf4j
+@Component
+public class TypeaheadIndex extends ReconcilingIndex<TypeaheadIndex.Dictionary> implements MeterBinder {
+
+    enum Field {
+        FIRST_NAME(1.0), LAST_NAME(1.0), SKILL(0.8), EMAIL(0.6), DOMAIN(0.5);
+
+        private final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final Field[] FIELDS = Field.values();
+    // Indexed even past the memory budget, so every employee can still be found by name
+    private static final Set<Field> ALWAYS_INDEXED = EnumSet.of(Field.FIRST_NAME, Field.LAST_NAME);
+    private static final double EXACT = 1.0;
+    private static final double PREFIX = 0.75;
+    private static final double ONE_TYPO = 0.5;
+    private static final double TWO_TYPOS = 0.3;
+
+    private static final int MAX_QUERY_TOKENS = 5;
+    // Upper bound on the tier combinations visited while collecting the top K
+    private static final int MAX_COMBINATIONS = 1_000;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIGITS = Pattern.compile("\\p{N}+");
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeProperties properties;
+
+    private final LongAdder budgetRefusals = new LongAdder();
+    // Kept current on every change, so the size gauge does not walk the dictionary per scrape
+    private final AtomicLong sizeBytes = new AtomicLong();
+    private Dictionary dictionary;
+
+    public TypeaheadIndex(EmployeeRepository employeeRepository, EmployeeProperties properties) {
+        this.employeeRepository = employeeRepository;
+        this.properties = properties;
+        this.dictionary = newDictionary();
+    }
+
+    @Override
+    protected Dictionary load() {
+        Dictionary rebuilt = newDictionary();
+        try (Stream<EmployeeSearchRow> rows = employeeRepository.streamAllSearchRows()) {
+            rows.forEach(row -> rebuilt.add(row.getEmployeeId(), row.getFirstName(),
+                    row.getLastName(), row.getEmail(), row.getDomain(), Collections.emptyList()));
+        }
+        try (Stream<EmployeeSkillRow> rows = employeeRepository.streamAllSkillRows()) {
+            rows.forEach(row -> rebuilt.addField(row.getEmployeeId(), Field.SKILL, row.getSkillName()));
+        }
+        rebuilt.optimize();
+        rebuilt.bytes = rebuilt.measureBytes();
+        return rebuilt;
+    }
+
+    @Override
+    protected void carryOver(Dictionary rebuilt, Long employeeId) {
+        rebuilt.remove(employeeId);
+        rebuilt.copy(dictionary, employeeId);
+    }
+
+    @Override
+    protected void install(Dictionary rebuilt) {
+        dictionary = rebuilt;
+        sizeBytes.set(rebuilt.bytes);
+    }
+
+    @Override
+    protected void rebuilt(Dictionary rebuilt) {
+        log.info("Typeahead index built: {} employees, {} terms, ~{} KB", rebuilt.documentIds.size(),
+                rebuilt.termIds.size(), rebuilt.bytes / 1024);
+        if (rebuilt.bytes > rebuilt.budgetBytes) {
+            log.warn("Typeahead index is above its memory budget of {} KB; new email, domain and skill terms"
+                    + " are not indexed", rebuilt.budgetBytes / 1024);
+        }
+    }
+
+    private Dictionary newDictionary() {
+        return new Dictionary(properties.getTypeahead().getMemoryBudget().toBytes(), budgetRefusals);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.getType() == EmployeeChangedEvent.Type.DELETED) {
+            remove(event.getEmployeeId());
+            return;
+        }
+        Employee employee = event.getEmployee();
+        put(employee.getEmployeeId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                employee.getDomain(), event.getSkills().stream().map(Skills::getSkillName).collect(Collectors.toList()));
+    }
+
+    /**
+     * Indexes an employee, replacing whatever was indexed for it before.
+     */
+    public void put(Long employeeId, String firstName, String lastName, String email, String domain,
+                    Collection<String> skills) {
+        update(employeeId, () -> {
+            dictionary.remove(employeeId);
+            dictionary.add(employeeId, firstName, lastName, email, domain, skills);
+            sizeBytes.set(dictionary.bytes);
+        });
+    }
+
+    public void remove(Long employeeId) {
+        update(employeeId, () -> {
+            dictionary.remove(employeeId);
+            sizeBytes.set(dictionary.bytes);
+        });
+    }
+
+    /**
+     * Returns the ids of the best matching employees, best first. Every query token must
+     * match some indexed token of the employee exactly, as a prefix or within one typo
+     * (two for tokens of eight or more characters).
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> tokens = tokenize(query).stream().distinct().limit(MAX_QUERY_TOKENS).collect(Collectors.toList());
+        if (tokens.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<List<Tier>> tiers = new ArrayList<>(tokens.size());
+        lock.readLock().lock();
+        try {
+            for (String token : tokens) {
+                List<Tier> tokenTiers = tiers(token);
+                if (tokenTiers.isEmpty()) {
+                    return Collections.emptyList();
+                }
+                tiers.add(tokenTiers);
+            }
+            // Under the lock, since document numbers are reused once an employee is removed
+            return topK(tiers, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long estimateBytes() {
+        return sizeBytes.get();
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return dictionary.termIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("typeahead.index.size", this, TypeaheadIndex::estimateBytes)
+                .description("Estimated heap used by the typeahead index")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("typeahead.index.terms", this, TypeaheadIndex::termCount)
+                .description("Distinct terms in the typeahead dictionary")
+                .register(registry);
+        FunctionCounter.builder("typeahead.budget.refused", budgetRefusals, LongAdder::sum)
+                .description("Tokens left out of the typeahead index because it was above its memory budget")
+                .register(registry);
+    }
+
+    /**
+     * Groups the employees matching one query token by the best score they reach for it.
+     * Tiers are disjoint and ordered best first.
+     */
+    private List<Tier> tiers(String token) {
+        Map<Double, List<RoaringBitmap>> byScore = new TreeMap<>(Comparator.reverseOrder());
+        matchTerms(token).forEach((termId, kind) -> {
+            RoaringBitmap[] fields = dictionary.postings.get(termId);
+            for (Field field : FIELDS) {
+                RoaringBitmap bitmap = fields[field.ordinal()];
+                if (bitmap != null && !bitmap.isEmpty()) {
+                    byScore.computeIfAbsent(kind * field.weight, score -> new ArrayList<>()).add(bitmap);
+                }
+            }
+        });
+
+        List<Tier> tiers = new ArrayList<>(byScore.size());
+        RoaringBitmap seen = new RoaringBitmap();
+        byScore.forEach((score, bitmaps) -> {
+            RoaringBitmap union = FastAggregation.or(bitmaps.iterator());
+            RoaringBitmap exclusive = RoaringBitmap.andNot(union, seen);
+            if (!exclusive.isEmpty()) {
+                tiers.add(new Tier(score, exclusive));
+                seen.or(union);
+            }
+        });
+        return tiers;
+    }
+
+    private Map<Integer, Double> matchTerms(String token) {
+        EmployeeProperties.Typeahead config = properties.getTypeahead();
+        Map<Integer, Double> matches = new HashMap<>();
+        Integer exact = dictionary.termIds.get(token);
+        if (exact != null) {
+            matches.put(exact, EXACT);
+        }
+        int expansions = 0;
+        for (Integer termId : dictionary.termIds.subMap(token, false, token + Character.MAX_VALUE, false).values()) {
+            if (++expansions > config.getMaxExpansions()) {
+                break;
+            }
+            matches.put(termId, PREFIX);
+        }
+
+        int maxTypos = token.length() >= 8 ? 2 : token.length() >= 4 ? 1 : 0;
+        if (maxTypos == 0) {
+            return matches;
+        }
+        // An edit changes at most three of the distinct bigrams, so a term within maxTypos
+        // shares at least one of the 3 * maxTypos + 1 rarest query bigrams
+        List<RoaringBitmap> grams = new ArrayList<>();
+        for (String gram : bigrams(token)) {
+            grams.add(dictionary.bigrams.getOrDefault(gram, new RoaringBitmap()));
+        }
+        grams.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+        RoaringBitmap candidates = FastAggregation.or(grams.subList(0, Math.min(grams.size(), 3 * maxTypos + 1)).iterator());
+
+        int verified = 0;
+        IntIterator iterator = candidates.getIntIterator();
+        while (iterator.hasNext() && verified++ < config.getMaxFuzzyCandidates()) {
+            int termId = iterator.next();
+            if (matches.containsKey(termId)) {
+                continue;
+            }
+            int distance = prefixDistance(token, dictionary.terms.get(termId), maxTypos);
+            if (distance <= maxTypos) {
+                matches.put(termId, distance <= 1 ? ONE_TYPO : TWO_TYPOS);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Visits combinations of per-token tiers in descending total score and collects the
+     * employees in their intersection until the limit is reached.
+     */
+    private List<Long> topK(List<List<Tier>> tiers, int limit) {
+        PriorityQueue<int[]> queue = new PriorityQueue<>(
+                Comparator.comparingDouble((int[] combination) -> score(tiers, combination)).reversed());
+        Set<List<Integer>> visited = new HashSet<>();
+        int[] first = new int[tiers.size()];
+        queue.add(first);
+        visited.add(asList(first));
+
+        List<Long> results = new ArrayList<>(limit);
+        int steps = 0;
+        while (!queue.isEmpty() && results.size() < limit && steps++ < MAX_COMBINATIONS) {
+            int[] combination = queue.poll();
+            RoaringBitmap hits = tiers.get(0).get(combination[0]).employees;
+            for (int token = 1; token < tiers.size() && !hits.isEmpty(); token++) {
+                hits = RoaringBitmap.and(hits, tiers.get(token).get(combination[token]).employees);
+            }
+            IntIterator iterator = hits.getIntIterator();
+            while (iterator.hasNext() && results.size() < limit) {
+                results.add(dictionary.employeeIds.get(iterator.next()));
+            }
+
+            for (int token = 0; token < combination.length; token++) {
+                if (combination[token] + 1 < tiers.get(token).size()) {
+                    int[] next = combination.clone();
+                    next[token]++;
+                    if (visited.add(asList(next))) {
+                        queue.add(next);
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private static double score(List<List<Tier>> tiers, int[] combination) {
+        double score = 0;
+        for (int token = 0; token < combination.length; token++) {
+            score += tiers.get(token).get(combination[token]).score;
+        }
+        return score;
+    }
+
+    private static List<Integer> asList(int[] combination) {
+        return Arrays.stream(combination).boxed().collect(Collectors.toList());
+    }
+
+    /**
+     * Optimal string alignment distance between the query and the closest prefix of the
+     * term, or {@code max + 1} as soon as it is known to exceed {@code max}.
+     */
+    static int prefixDistance(String query, String term, int max) {
+        int n = query.length();
+        int columns = Math.min(term.length(), n + max);
+        int[] before = new int[columns + 1];
+        int[] previous = new int[columns + 1];
+        int[] current = new int[columns + 1];
+        for (int j = 0; j <= columns; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= n; i++) {
+            current[0] = i;
+            int rowMin = i;
+            char q = query.charAt(i - 1);
+            for (int j = 1; j <= columns; j++) {
+                char t = term.charAt(j - 1);
+                int cost = q == t ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && q == term.charAt(j - 2) && query.charAt(i - 2) == t) {
+                    value = Math.min(value, before[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = before;
+            before = previous;
+            previous = current;
+            current = recycled;
+        }
+        int best = max + 1;
+        for (int value : previous) {
+            best = Math.min(best, value);
+        }
+        return best;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(folded)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Local part and host labels of an address, without digits and without the top-level
+     * domain, which would otherwise match every employee.
+     */
+    static List<String> emailTokens(String email) {
+        if (email == null) {
+            return Collections.emptyList();
+        }
+        int at = email.lastIndexOf('@');
+        String local = at < 0 ? email : email.substring(0, at);
+        String host = at < 0 ? "" : email.substring(at + 1);
+        int tld = host.lastIndexOf('.');
+        return tokenize(DIGITS.matcher(local + " " + (tld < 0 ? host : host.substring(0, tld))).replaceAll(" "));
+    }
+
+    // Bigrams of the term with a start marker, so leading characters carry their own gram
+    private static Set<String> bigrams(String term) {
+        String marked = "$" + term;
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= marked.length(); i++) {
+            grams.add(marked.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static final class Tier {
+        private final double score;
+        private final RoaringBitmap employees;
+
+        private Tier(double score, RoaringBitmap employees) {
+            this.score = score;
+            this.employees = employees;
+        }
+    }
+
+    static final class Dictionary {
+        // Rough shallow sizes on a 64-bit JVM with compressed oops
+        private static final long DOCUMENT_BYTES = 48 + 16 + 48 + 16 + 8;
+        private static final long ENTRY_BYTES = 4 + 2;
+        private static final long BITMAP_BYTES = 48;
+        private static final long BIGRAM_BYTES = 64;
+
+        private final long budgetBytes;
+        private final LongAdder refusals;
+        // measureBytes() after a rebuild, adjusted by each change since
+        private long bytes;
+        private final TreeMap<String, Integer> termIds = new TreeMap<>();
+        // Indexed by term id; the slots of terms no employee uses any more are null until reused
+        private final List<String> terms = new ArrayList<>();
+        private final List<RoaringBitmap[]> postings = new ArrayList<>();
+        private final Deque<Integer> freeTermIds = new ArrayDeque<>();
+        // Bigram to the ids of the terms containing it
+        private final Map<String, RoaringBitmap> bigrams = new HashMap<>();
+        // Postings hold dense document numbers rather than employee ids, which may not fit in an int
+        private final Map<Long, Integer> documentIds = new HashMap<>();
+        private final List<Long> employeeIds = new ArrayList<>();
+        private final Deque<Integer> freeDocumentIds = new ArrayDeque<>();
+        // Document to the (term, field) pairs it was indexed under, encoded as termId * FIELDS + field
+        private final Map<Integer, int[]> documents = new HashMap<>();
+
+        Dictionary(long budgetBytes, LongAdder refusals) {
+            this.budgetBytes = budgetBytes;
+            this.refusals = refusals;
+        }
+
+        void add(Long employeeId, String firstName, String lastName, String email, String domain,
+                 Collection<String> skills) {
+            int document = document(employeeId);
+            addTokens(document, Field.FIRST_NAME, tokenize(firstName));
+            addTokens(document, Field.LAST_NAME, tokenize(lastName));
+            addTokens(document, Field.EMAIL, emailTokens(email));
+            addTokens(document, Field.DOMAIN, tokenize(domain));
+            for (String skill : skills) {
+                addTokens(document, Field.SKILL, tokenize(skill));
+            }
+        }
+
+        void addField(Long employeeId, Field field, String value) {
+            addTokens(document(employeeId), field, tokenize(value));
+        }
+
+        /** Indexes the employee exactly as {@code source} has it, if at all. */
+        void copy(Dictionary source, Long employeeId) {
+            Integer from = source.documentIds.get(employeeId);
+            if (from == null) {
+                return;
+            }
+            int document = document(employeeId);
+            for (int entry : source.documents.get(from)) {
+                addTokens(document, FIELDS[entry % FIELDS.length], List.of(source.terms.get(entry / FIELDS.length)));
+            }
+        }
+
+        private int document(Long employeeId) {
+            Integer existing = documentIds.get(employeeId);
+            if (existing != null) {
+                return existing;
+            }
+            int document;
+            if (freeDocumentIds.isEmpty()) {
+                document = employeeIds.size();
+                employeeIds.add(employeeId);
+            } else {
+                document = freeDocumentIds.pop();
+                employeeIds.set(document, employeeId);
+            }
+            documentIds.put(employeeId, document);
+            documents.put(document, new int[0]);
+            bytes += DOCUMENT_BYTES;
+            return document;
+        }
+
+        private void addTokens(int document, Field field, List<String> tokens) {
+            int[] entries = documents.get(document);
+            int size = entries.length;
+            for (String token : tokens) {
+                if (bytes > budgetBytes && !ALWAYS_INDEXED.contains(field) && !termIds.containsKey(token)) {
+                    refusals.increment();
+                    continue;
+                }
+                int termId = termId(token);
+                RoaringBitmap[] fields = postings.get(termId);
+                if (fields[field.ordinal()] == null) {
+                    fields[field.ordinal()] = new RoaringBitmap();
+                    bytes += BITMAP_BYTES;
+                }
+                if (fields[field.ordinal()].checkedAdd(document)) {
+                    if (size == entries.length) {
+                        entries = Arrays.copyOf(entries, Math.max(4, size * 2));
+                    }
+                    entries[size++] = termId * FIELDS.length + field.ordinal();
+                    bytes += ENTRY_BYTES;
+                }
+            }
+            documents.put(document, size == entries.length ? entries : Arrays.copyOf(entries, size));
+        }
+
+        void remove(Long employeeId) {
+            Integer document = documentIds.remove(employeeId);
+            if (document == null) {
+                return;
+            }
+            int[] entries = documents.remove(document);
+            employeeIds.set(document, null);
+            freeDocumentIds.push(document);
+            bytes -= DOCUMENT_BYTES + ENTRY_BYTES * entries.length;
+            for (int entry : entries) {
+                int termId = entry / FIELDS.length;
+                RoaringBitmap[] fields = postings.get(termId);
+                int field = entry % FIELDS.length;
+                fields[field].remove(document);
+                if (fields[field].isEmpty()) {
+                    fields[field] = null;
+                    bytes -= BITMAP_BYTES;
+                    if (Arrays.stream(fields).allMatch(bitmap -> bitmap == null)) {
+                        removeTerm(termId);
+                    }
+                }
+            }
+        }
+
+        private int termId(String term) {
+            Integer existing = termIds.get(term);
+            if (existing != null) {
+                return existing;
+            }
+            int termId;
+            if (freeTermIds.isEmpty()) {
+                termId = terms.size();
+                terms.add(term);
+                postings.add(new RoaringBitmap[FIELDS.length]);
+            } else {
+                termId = freeTermIds.pop();
+                terms.set(termId, term);
+                postings.set(termId, new RoaringBitmap[FIELDS.length]);
+            }
+            termIds.put(term, termId);
+            bytes += termBytes(term);
+            for (String gram : TypeaheadIndex.bigrams(term)) {
+                bigrams.computeIfAbsent(gram, g -> {
+                    bytes += BIGRAM_BYTES;
+                    return new RoaringBitmap();
+                }).add(termId);
+                bytes += 2;
+            }
+            return termId;
+        }
+
+        // Called once no employee has the term in any field, so renamed values do not pile up
+        private void removeTerm(int termId) {
+            String term = terms.set(termId, null);
+            postings.set(termId, null);
+            termIds.remove(term);
+            bytes -= termBytes(term);
+            for (String gram : TypeaheadIndex.bigrams(term)) {
+                RoaringBitmap withGram = bigrams.get(gram);
+                withGram.remove(termId);
+                bytes -= 2;
+                if (withGram.isEmpty()) {
+                    bigrams.remove(gram);
+                    bytes -= BIGRAM_BYTES;
+                }
+            }
+            freeTermIds.push(termId);
+        }
+
+        void optimize() {
+            postings.stream().filter(Objects::nonNull).flatMap(Arrays::stream).filter(Objects::nonNull)
+                    .forEach(RoaringBitmap::runOptimize);
+            bigrams.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        private static long termBytes(String term) {
+            return 48 + term.length() + 40 + 16 + 4L * FIELDS.length;
+        }
+
+        // Walks the whole dictionary, so only called once per rebuild
+        long measureBytes() {
+            long total = 0;
+            for (int termId = 0; termId < terms.size(); termId++) {
+                String term = terms.get(termId);
+                if (term == null) {
+                    total += 8;
+                    continue;
+                }
+                total += termBytes(term);
+                for (RoaringBitmap bitmap : postings.get(termId)) {
+                    total += bitmap == null ? 0 : bitmap.getSizeInBytes();
+                }
+            }
+            for (RoaringBitmap bitmap : bigrams.values()) {
+                total += BIGRAM_BYTES + bitmap.getSizeInBytes();
+            }
+            for (int[] entries : documents.values()) {
+                total += DOCUMENT_BYTES + 4L * entries.length;
+            }
+            return total;
+        }
+    }
+}
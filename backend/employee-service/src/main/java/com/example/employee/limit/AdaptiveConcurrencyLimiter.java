@@ -0,0 +1,166 @@
+package com.example.employee.limit;
+
+import com.example.employee.config.EmployeeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit estimated from request latency, after the gradient algorithm of
+ * Netflix's concurrency-limits. Latencies are averaged per window; the limit shrinks as
+ * the window average rises above the long-term average (requests are queueing on the
+ * connection pool) and grows by about sqrt(limit) per window while it does not. Only
+ * CRITICAL and NORMAL requests are sampled, since bulk latency depends on result size.
+ */
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+    private final EmployeeProperties.ConcurrencyLimit config;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Map<Priority, Counter> rejections = new EnumMap<>(Priority.class);
+    private volatile int limit;
+
+    // Guarded by this
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long windowStart;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInflight;
+
+    public AdaptiveConcurrencyLimiter(EmployeeProperties.ConcurrencyLimit config) {
+        this(config, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(EmployeeProperties.ConcurrencyLimit config, LongSupplier nanoClock) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+        this.windowStart = nanoClock.getAsLong();
+        this.estimatedLimit = config.getInitialLimit();
+        this.limit = config.getInitialLimit();
+    }
+
+    /**
+     * Admits the request if fewer requests are in flight than this priority's share of the
+     * limit, or returns null to shed it. The permit must be released exactly once.
+     */
+    public Permit tryAcquire(Priority priority) {
+        int allowed = Math.max(1, (int) (limit * share(priority)));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                Counter rejected = rejections.get(priority);
+                if (rejected != null) {
+                    rejected.increment();
+                }
+                return null;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return new Permit(priority, current + 1);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private double share(Priority priority) {
+        switch (priority) {
+            case NORMAL:
+                return config.getNormalShare();
+            case BULK:
+                return config.getBulkShare();
+            default:
+                return 1.0;
+        }
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtStart) {
+        windowRttSum += rttNanos;
+        windowSamples++;
+        windowMaxInflight = Math.max(windowMaxInflight, inflightAtStart);
+        long now = nanoClock.getAsLong();
+        if (now - windowStart < config.getWindow().toNanos() || windowSamples < config.getMinWindowSamples()) {
+            return;
+        }
+        double shortRtt = (double) windowRttSum / windowSamples;
+        int maxInflight = windowMaxInflight;
+        windowStart = now;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInflight = 0;
+
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+        } else {
+            longRttNanos += (shortRtt - longRttNanos) / config.getLongWindows();
+        }
+        // After an overload the long average is inflated; let it catch up with recovery quickly
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+        // Demand well under the limit says nothing about how far it could go
+        if (maxInflight < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, config.getTolerance() * longRttNanos / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - config.getSmoothing()) + newLimit * config.getSmoothing();
+        estimatedLimit = Math.max(config.getMinLimit(), Math.min(config.getMaxLimit(), newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    private synchronized double longRttMillis() {
+        return longRttNanos / 1_000_000.0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit for /api/employees")
+                .register(registry);
+        Gauge.builder("concurrency.limit.inflight", this, AdaptiveConcurrencyLimiter::getInflight)
+                .description("Admitted requests still in flight")
+                .register(registry);
+        Gauge.builder("concurrency.limit.rtt.long", this, AdaptiveConcurrencyLimiter::longRttMillis)
+                .description("Long-term average latency the limit is measured against")
+                .baseUnit("milliseconds")
+                .register(registry);
+        for (Priority priority : Priority.values()) {
+            rejections.put(priority, Counter.builder("concurrency.limit.rejected")
+                    .description("Requests shed because the concurrency limit was reached")
+                    .tag("priority", priority.tagValue())
+                    .register(registry));
+        }
+    }
+
+    public final class Permit {
+
+        private final Priority priority;
+        private final int inflightAtStart;
+        private final long start = nanoClock.getAsLong();
+
+        private Permit(Priority priority, int inflightAtStart) {
+            this.priority = priority;
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        public void release() {
+            inflight.decrementAndGet();
+            if (priority != Priority.BULK) {
+                onSample(nanoClock.getAsLong() - start, inflightAtStart);
+            }
+        }
+    }
+}
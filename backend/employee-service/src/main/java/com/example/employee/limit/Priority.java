@@ -0,0 +1,34 @@
+package com.example.employee.limit;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.regex.Pattern;
+
+/**
+ * Admission priority of an /api/employees request. Lower priorities may only fill part of
+ * the concurrency limit, so as it shrinks under overload bulk reads are shed first and
+ * writes last.
+ */
+public enum Priority {
+    /** Creates, updates and deletes of single employees. */
+    CRITICAL,
+    /** Point reads, pages, searches and facets. */
+    NORMAL,
+    /** Unpaged lists, exports and imports, whose cost grows with the data. */
+    BULK;
+
+    // GET /api/employees, /export, /manager/{id}, /company/{id}, /freelancers/domain/{d}, /freelancers/skills/{s}
+    private static final Pattern BULK_READ = Pattern.compile(
+            "/api/employees/?|/api/employees/(export|manager/[^/]+|company/[^/]+|freelancers/domain/[^/]+|freelancers/skills/[^/]+)");
+
+    static Priority of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if ("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod())) {
+            return BULK_READ.matcher(path).matches() ? BULK : NORMAL;
+        }
+        return path.endsWith("/import") ? BULK : CRITICAL;
+    }
+
+    String tagValue() {
+        return name().toLowerCase();
+    }
+}
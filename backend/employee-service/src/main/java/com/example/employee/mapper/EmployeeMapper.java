@@ -0,0 +1,100 @@
+package com.example.employee.mapper;
+
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.entity.Employee;
+import com.example.employee.entity.Skills;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Straight-line field copies between Employee and EmployeeDTO, replacing the reflective
+ * BeanUtils.copyProperties calls. A field added to both classes must be added here too.
+ * Skills are not mapped: the DTO only carries them as a display string.
+ */
+@Component
+public class EmployeeMapper {
+
+    /**
+     * Reads the skills from the entity's collection, initializing it if lazy, in name order
+     * like the batched list query. List reads should batch-load skill names and use
+     * {@link #toDto(Employee, Collection)}.
+     */
+    public EmployeeDTO toDto(Employee employee) {
+        List<String> skillNames = null;
+        if (employee.getSkills() != null && !employee.getSkills().isEmpty()) {
+            skillNames = employee.getSkills().stream()
+                    .map(Skills::getSkillName)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        return toDto(employee, skillNames);
+    }
+
+    public EmployeeDTO toDto(Employee employee, Collection<String> skillNames) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setEmployeeId(employee.getEmployeeId());
+        dto.setFirstName(employee.getFirstName());
+        dto.setLastName(employee.getLastName());
+        dto.setEmail(employee.getEmail());
+        dto.setPhoneNumber(employee.getPhoneNumber());
+        dto.setDateOfBirth(employee.getDateOfBirth());
+        dto.setGender(employee.getGender());
+        dto.setDesignationId(employee.getDesignationId());
+        dto.setHireDate(employee.getHireDate());
+        dto.setSalary(employee.getSalary());
+        dto.setManagerId(employee.getManagerId());
+        dto.setCompanyId(employee.getCompanyId());
+        dto.setBankName(employee.getBankName());
+        dto.setBankAccountNumber(employee.getBankAccountNumber());
+        dto.setIfscCode(employee.getIfscCode());
+        dto.setPanNumber(employee.getPanNumber());
+        dto.setPhotoUrl(employee.getPhotoUrl());
+        dto.setLinkedinUrl(employee.getLinkedinUrl());
+        dto.setGithubUrl(employee.getGithubUrl());
+        dto.setDomain(employee.getDomain());
+        dto.setStatus(employee.getStatus());
+        dto.setUpdatedAt(employee.getUpdatedAt());
+        dto.setVersion(employee.getVersion());
+        if (skillNames != null && !skillNames.isEmpty()) {
+            dto.setSkillsString(String.join(", ", skillNames));
+        }
+        return dto;
+    }
+
+    public Employee toEntity(EmployeeDTO dto) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(dto.getEmployeeId());
+        updateEntity(dto, employee);
+        return employee;
+    }
+
+    /**
+     * Copies the DTO onto an existing entity. employeeId, createdAt, updatedAt and version
+     * are left untouched; null DTO fields overwrite, as a full update.
+     */
+    public void updateEntity(EmployeeDTO dto, Employee employee) {
+        employee.setFirstName(dto.getFirstName());
+        employee.setLastName(dto.getLastName());
+        employee.setEmail(dto.getEmail());
+        employee.setPhoneNumber(dto.getPhoneNumber());
+        employee.setDateOfBirth(dto.getDateOfBirth());
+        employee.setGender(dto.getGender());
+        employee.setDesignationId(dto.getDesignationId());
+        employee.setHireDate(dto.getHireDate());
+        employee.setSalary(dto.getSalary());
+        employee.setManagerId(dto.getManagerId());
+        employee.setCompanyId(dto.getCompanyId());
+        employee.setBankName(dto.getBankName());
+        employee.setBankAccountNumber(dto.getBankAccountNumber());
+        employee.setIfscCode(dto.getIfscCode());
+        employee.setPanNumber(dto.getPanNumber());
+        employee.setPhotoUrl(dto.getPhotoUrl());
+        employee.setLinkedinUrl(dto.getLinkedinUrl());
+        employee.setGithubUrl(dto.getGithubUrl());
+        employee.setDomain(dto.getDomain());
+        employee.setStatus(dto.getStatus());
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.employee.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-thread counters of the Hibernate work done while serving one request. Work that
+ * runs on another thread is only counted if that thread is wrapped with {@link #wrap}; the
+ * counters are atomic because a bulkhead thread may still add to them while the request
+ * thread reads them.
+ */
+public final class RequestStatistics {
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicInteger entityLoads = new AtomicInteger();
+    private final AtomicInteger collectionFetches = new AtomicInteger();
+
+    private RequestStatistics() {
+    }
+
+    /**
+     * Starts counting on the calling thread, as {@link RequestStatisticsFilter} does for each
+     * request. Callers must {@link #end} on the same thread.
+     */
+    public static RequestStatistics begin() {
+        RequestStatistics statistics = new RequestStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Makes the given task count towards the request that is current on the calling thread.
+     */
+    public static Runnable wrap(Runnable task) {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics == null) {
+            return task;
+        }
+        return () -> {
+            RequestStatistics previous = CURRENT.get();
+            CURRENT.set(statistics);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    static void statementExecuted() {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.statements.incrementAndGet();
+        }
+    }
+
+    static void entityLoaded() {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.entityLoads.incrementAndGet();
+        }
+    }
+
+    static void collectionFetched() {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.collectionFetches.incrementAndGet();
+        }
+    }
+
+    public int getStatements() {
+        return statements.get();
+    }
+
+    public int getEntityLoads() {
+        return entityLoads.get();
+    }
+
+    public int getCollectionFetches() {
+        return collectionFetches.get();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.employee.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Records how many statements, entity loads and collection fetches each request caused,
+ * as hibernate.request.* distribution summaries tagged like http.server.requests.
+ */
+public class RequestStatisticsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+
+    public RequestStatisticsFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestStatistics statistics = RequestStatistics.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestStatistics.end();
+            if (request.isAsyncStarted()) {
+                // Async responses such as streamed exports finish after this returns
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        record(request, statistics);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                record(request, statistics);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestStatistics statistics) {
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri(request));
+        record("hibernate.request.statements", tags, statistics.getStatements());
+        record("hibernate.request.entity.loads", tags, statistics.getEntityLoads());
+        record("hibernate.request.collection.fetches", tags, statistics.getCollectionFetches());
+    }
+
+    private void record(String name, Tags tags, int value) {
+        DistributionSummary.builder(name)
+                .tags(tags)
+                .register(registry)
+                .record(value);
+    }
+
+    private static String uri(HttpServletRequest request) {
+        // Use the mapped pattern, not the raw path, to keep the tag cardinality bounded
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.employee.metrics;
+
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Feeds {@link RequestStatistics} from Hibernate: every prepared SQL statement, every
+ * entity hydrated from a result set or cache and every lazy collection initialization.
+ */
+public class RequestStatisticsListener implements StatementInspector, PostLoadEventListener,
+        InitializeCollectionEventListener {
+
+    @Override
+    public String inspect(String sql) {
+        RequestStatistics.statementExecuted();
+        return sql;
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        RequestStatistics.entityLoaded();
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        RequestStatistics.collectionFetched();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.employee.remoteconfig;
+
+import com.example.employee.config.EmployeeProperties;
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Boots from the config snapshot on local disk when the config server could not be reached
+ * at startup. The snapshot ranks where the config server's properties would: above
+ * application.yml, below system properties and environment variables. Runs after config
+ * data processing so employee.config-snapshot.* can come from application.yml or a profile,
+ * and so a successful config server import is visible.
+ */
+public class ConfigSnapshotEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    private static final String CONFIG_SERVER_SOURCE = "configserver:";
+
+    private final Log log;
+
+    public ConfigSnapshotEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(ConfigSnapshotEnvironmentPostProcessor.class);
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        EmployeeProperties.ConfigSnapshot config = Binder.get(environment)
+                .bind("employee.config-snapshot", EmployeeProperties.ConfigSnapshot.class)
+                .orElseGet(EmployeeProperties.ConfigSnapshot::new);
+        if (!config.isEnabled() || !environment.getProperty("spring.cloud.config.enabled", Boolean.class, true)
+                || !Files.isRegularFile(config.getPath())) {
+            return;
+        }
+        // Fresh properties from the server beat the snapshot of an earlier run
+        if (environment.getPropertySources().stream().anyMatch(source -> source.getName().startsWith(CONFIG_SERVER_SOURCE))) {
+            return;
+        }
+        try {
+            Map<String, Object> values = new LinkedHashMap<>(SnapshotFile.read(config.getPath()));
+            addSnapshot(environment.getPropertySources(), new MapPropertySource(SnapshotFile.PROPERTY_SOURCE_NAME, values));
+            log.info("Loaded " + values.size() + " properties from config snapshot " + config.getPath());
+        } catch (IOException | IllegalArgumentException ex) {
+            // Booting without remote properties beats not booting; the refresher rewrites the file
+            log.warn("Ignoring unreadable config snapshot " + config.getPath() + ": " + ex);
+        }
+    }
+
+    static void addSnapshot(MutablePropertySources sources, MapPropertySource snapshot) {
+        if (sources.contains(SnapshotFile.PROPERTY_SOURCE_NAME)) {
+            sources.replace(SnapshotFile.PROPERTY_SOURCE_NAME, snapshot);
+        } else if (sources.contains(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME)) {
+            sources.addAfter(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME, snapshot);
+        } else {
+            sources.addFirst(snapshot);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return ConfigDataEnvironmentPostProcessor.ORDER + 1;
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.employee.remoteconfig;
+
+import com.example.employee.config.EmployeeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.cloud.context.scope.refresh.RefreshScope;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Fetches this service's properties from the config server in the background, on the
+ * employee.config-snapshot.refresh-interval schedule set up in SchedulingConfig. Changes
+ * are saved to the snapshot file for the next boot and applied to the running context:
+ * the snapshot property source is replaced, @ConfigurationProperties beans are rebound
+ * through an EnvironmentChangeEvent and @RefreshScope beans are recreated. Properties read
+ * only at startup, such as the datasource, are left out of the snapshot; they come from
+ * the config server fetch at boot, or from local configuration when that fails.
+ *
+ * The config server location comes from the configserver: entry of spring.config.import.
+ * Nothing is fetched while spring.cloud.config.enabled is false.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = {"employee.config-snapshot.enabled", "spring.cloud.config.enabled"}, matchIfMissing = true)
+public class ConfigSnapshotRefresher {
+
+    private static final String CONFIG_SERVER_PREFIX = "configserver:";
+
+    private final EmployeeProperties.ConfigSnapshot config;
+    private final ConfigurableEnvironment environment;
+    private final ApplicationContext context;
+    private final ObjectProvider<RefreshScope> refreshScope;
+    private final RestTemplate restTemplate;
+
+    private volatile Instant confirmedAt;
+    private boolean failing;
+    private final Counter changed;
+    private final Counter unchanged;
+    private final Counter failed;
+
+    public ConfigSnapshotRefresher(EmployeeProperties properties, ConfigurableEnvironment environment,
+                                   ApplicationContext context, ObjectProvider<RefreshScope> refreshScope,
+                                   MeterRegistry registry) {
+        this.config = properties.getConfigSnapshot();
+        this.environment = environment;
+        this.context = context;
+        this.refreshScope = refreshScope;
+        // Not the auto-configured builder: its metrics customizer needs the registry this binds to
+        this.restTemplate = new RestTemplateBuilder()
+                .setConnectTimeout(config.getConnectTimeout())
+                .setReadTimeout(config.getReadTimeout())
+                .build();
+        try {
+            if (Files.isRegularFile(config.getPath())) {
+                confirmedAt = Files.getLastModifiedTime(config.getPath()).toInstant();
+            }
+        } catch (IOException ex) {
+            log.debug("Cannot read the config snapshot timestamp", ex);
+        }
+        changed = counter(registry, "changed");
+        unchanged = counter(registry, "unchanged");
+        failed = counter(registry, "failed");
+        Gauge.builder("config.snapshot.age", this, refresher -> {
+                    Instant at = refresher.confirmedAt;
+                    return at == null ? Double.NaN : Duration.between(at, Instant.now()).toMillis() / 1000.0;
+                })
+                .description("Time since the configuration was last confirmed against the config server")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    public synchronized void refresh() {
+        String uri = configServerUri();
+        if (uri == null) {
+            return;
+        }
+        Map<String, String> fetched;
+        try {
+            fetched = fetch(uri);
+        } catch (RestClientException ex) {
+            failed.increment();
+            if (!failing) {
+                log.warn("Config server {} unavailable, keeping the current configuration: {}", uri, ex.getMessage());
+                failing = true;
+            }
+            return;
+        }
+        if (failing) {
+            log.info("Config server {} is reachable again", uri);
+            failing = false;
+        }
+        confirmedAt = Instant.now();
+
+        Map<String, String> current = currentValues();
+        if (fetched.equals(current)) {
+            unchanged.increment();
+            // Up to date from the fetch at boot, but there is no snapshot for the next one yet
+            if (!Files.isRegularFile(config.getPath())) {
+                save(fetched, uri);
+            }
+            return;
+        }
+        save(fetched, uri);
+
+        Set<String> keys = new HashSet<>(current.keySet());
+        keys.addAll(fetched.keySet());
+        keys.removeIf(key -> fetched.get(key) != null && fetched.get(key).equals(current.get(key)));
+        ConfigSnapshotEnvironmentPostProcessor.addSnapshot(environment.getPropertySources(),
+                new MapPropertySource(SnapshotFile.PROPERTY_SOURCE_NAME, new LinkedHashMap<>(fetched)));
+        context.publishEvent(new EnvironmentChangeEvent(context, keys));
+        refreshScope.ifAvailable(RefreshScope::refreshAll);
+        changed.increment();
+        log.info("Applied {} changed properties from config server {}: {}", keys.size(), uri, keys);
+    }
+
+    private void save(Map<String, String> values, String uri) {
+        try {
+            SnapshotFile.write(config.getPath(), values, uri);
+        } catch (IOException ex) {
+            log.warn("Cannot save config snapshot {}, the next boot will use the previous one: {}", config.getPath(), ex.toString());
+        }
+    }
+
+    private Map<String, String> fetch(String uri) {
+        String name = environment.getProperty("spring.cloud.config.name",
+                environment.getProperty("spring.application.name", "application"));
+        String profiles = environment.getProperty("spring.cloud.config.profile",
+                environment.getActiveProfiles().length == 0 ? "default"
+                        : String.join(",", environment.getActiveProfiles()));
+        String label = environment.getProperty("spring.cloud.config.label");
+        Environment remote = StringUtils.hasText(label)
+                ? restTemplate.getForObject(uri + "/{name}/{profiles}/{label}", Environment.class, name, profiles, label)
+                : restTemplate.getForObject(uri + "/{name}/{profiles}", Environment.class, name, profiles);
+
+        // The server lists property sources highest precedence first
+        Map<String, String> values = new TreeMap<>();
+        if (remote != null) {
+            List<PropertySource> sources = remote.getPropertySources();
+            for (int i = sources.size() - 1; i >= 0; i--) {
+                sources.get(i).getSource().forEach((key, value) -> values.put(String.valueOf(key), String.valueOf(value)));
+            }
+        }
+        values.keySet().removeIf(SnapshotFile::isStartupOnly);
+        return values;
+    }
+
+    // The applied snapshot, or else what the config server returned at boot
+    private Map<String, String> currentValues() {
+        List<EnumerablePropertySource<?>> remote = new ArrayList<>();
+        org.springframework.core.env.PropertySource<?> snapshot =
+                environment.getPropertySources().get(SnapshotFile.PROPERTY_SOURCE_NAME);
+        if (snapshot instanceof EnumerablePropertySource) {
+            remote.add((EnumerablePropertySource<?>) snapshot);
+        } else {
+            for (org.springframework.core.env.PropertySource<?> source : environment.getPropertySources()) {
+                if (source.getName().startsWith(CONFIG_SERVER_PREFIX) && source instanceof EnumerablePropertySource) {
+                    remote.add((EnumerablePropertySource<?>) source);
+                }
+            }
+            Collections.reverse(remote);
+        }
+        Map<String, String> values = new TreeMap<>();
+        for (EnumerablePropertySource<?> source : remote) {
+            for (String key : source.getPropertyNames()) {
+                if (!SnapshotFile.isStartupOnly(key)) {
+                    values.put(key, String.valueOf(source.getProperty(key)));
+                }
+            }
+        }
+        return values;
+    }
+
+    private String configServerUri() {
+        for (String location : environment.getProperty("spring.config.import", String[].class, new String[0])) {
+            String trimmed = location.trim();
+            if (trimmed.startsWith("optional:")) {
+                trimmed = trimmed.substring("optional:".length());
+            }
+            if (trimmed.startsWith(CONFIG_SERVER_PREFIX)) {
+                String uri = trimmed.substring(CONFIG_SERVER_PREFIX.length());
+                return uri.isEmpty() ? environment.getProperty("spring.cloud.config.uri", "http://localhost:8888") : uri;
+            }
+        }
+        return null;
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("config.snapshot.refreshes")
+                .description("Background config server fetches by outcome")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.employee.remoteconfig;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * The last property set fetched from the config server, as a properties file. Writes go
+ * to a temporary file that is then moved into place, so a crash mid-write leaves the
+ * previous snapshot intact. Properties read only at startup are left out: a snapshot must
+ * not boot the service against a stale datasource or port, and changing them at runtime
+ * would not take effect anyway.
+ */
+final class SnapshotFile {
+
+    static final String PROPERTY_SOURCE_NAME = "configSnapshot";
+
+    private static final List<String> STARTUP_ONLY_PREFIXES = List.of(
+            "server.", "management.server.", "eureka.", "spring.datasource.", "spring.jpa.",
+            "spring.main.", "spring.application.", "spring.profiles.", "spring.config.",
+            "spring.cloud.config.", "employee.config-snapshot.");
+
+    private SnapshotFile() {
+    }
+
+    static Map<String, String> read(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, String> values = new TreeMap<>();
+        properties.stringPropertyNames().forEach(name -> values.put(name, properties.getProperty(name)));
+        values.keySet().removeIf(SnapshotFile::isStartupOnly);
+        return values;
+    }
+
+    static boolean isStartupOnly(String key) {
+        return STARTUP_ONLY_PREFIXES.stream().anyMatch(key::startsWith);
+    }
+
+    static void write(Path path, Map<String, String> values, String source) throws IOException {
+        Properties properties = new Properties();
+        values.forEach((key, value) -> {
+            if (!isStartupOnly(key)) {
+                properties.setProperty(key, value);
+            }
+        });
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                properties.store(writer, "Fetched from " + source);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.employee.repository;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.RuntimeProperty;
+import com.mysql.cj.jdbc.JdbcConnection;
+import org.hibernate.Session;
+
+/**
+ * Server-side cursor fetch for the statements one session prepares while this is open, so
+ * a large result set arrives fetch-size rows at a time instead of being buffered whole by
+ * MySQL Connector/J. Unlike useCursorFetch on the datasource URL, only these statements
+ * become server-side prepared, and unlike a streaming result set (fetch size
+ * Integer.MIN_VALUE) the connection can run other queries while the cursor is open. A
+ * no-op on other databases.
+ */
+final class CursorFetch implements AutoCloseable {
+
+    private final RuntimeProperty<Boolean> useCursorFetch;
+    private final RuntimeProperty<Boolean> useServerPrepStmts;
+    private final boolean previousCursorFetch;
+    private final boolean previousServerPrepStmts;
+
+    private CursorFetch(JdbcConnection connection) {
+        this.useCursorFetch = connection.getPropertySet().getBooleanProperty(PropertyKey.useCursorFetch);
+        this.useServerPrepStmts = connection.getPropertySet().getBooleanProperty(PropertyKey.useServerPrepStmts);
+        this.previousCursorFetch = useCursorFetch.getValue();
+        this.previousServerPrepStmts = useServerPrepStmts.getValue();
+        useCursorFetch.setValue(true);
+        useServerPrepStmts.setValue(true);
+    }
+
+    static CursorFetch open(Session session) {
+        JdbcConnection connection = session.doReturningWork(jdbc ->
+                jdbc.isWrapperFor(JdbcConnection.class) ? jdbc.unwrap(JdbcConnection.class) : null);
+        return connection == null ? null : new CursorFetch(connection);
+    }
+
+    // The connection goes back to the pool with the URL's settings
+    @Override
+    public void close() {
+        useCursorFetch.setValue(previousCursorFetch);
+        useServerPrepStmts.setValue(previousServerPrepStmts);
+    }
+}
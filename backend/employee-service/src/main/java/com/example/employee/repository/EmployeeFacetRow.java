@@ -0,0 +1,9 @@
+package com.example.employee.repository;
+
+public interface EmployeeFacetRow {
+    Long getEmployeeId();
+    String getDomain();
+    String getStatus();
+    Integer getCompanyId();
+    Integer getDesignationId();
+}
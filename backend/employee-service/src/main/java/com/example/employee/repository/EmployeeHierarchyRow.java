@@ -0,0 +1,9 @@
+package com.example.employee.repository;
+
+public interface EmployeeHierarchyRow {
+    Long getEmployeeId();
+    Long getManagerId();
+    String getFirstName();
+    String getLastName();
+    Integer getDesignationId();
+}
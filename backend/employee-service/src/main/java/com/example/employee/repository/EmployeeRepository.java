@@ -1,20 +1,105 @@
 package com.example.employee.repository;
 
+import com.example.employee.config.SqlFunctionsConfig;
+import com.example.employee.dto.EmployeeSummaryDTO;
 import com.example.employee.entity.Employee;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeRepositoryCustom {
+
+    // Skills are aggregated by a correlated subquery, evaluated only for the rows returned
+    String SUMMARY_SELECT = "select new com.example.employee.dto.EmployeeSummaryDTO(e.employeeId, e.firstName, "
+            + "e.lastName, e.email, e.domain, e.status, e.hireDate, (select function('" + SqlFunctionsConfig.SKILL_LIST
+            + "', s.skillName) from Employee se join se.skills s where se.employeeId = e.employeeId)) from Employee e ";
+
     Optional<Employee> findByEmail(String email);
     Optional<Employee> findByPanNumber(String panNumber);
     Optional<Employee> findByBankAccountNumber(String bankAccountNumber);
     List<Employee> findByManagerId(Long managerId);
+
+    @Query("select e.managerId from Employee e where e.employeeId = :employeeId")
+    Optional<Long> findManagerIdById(@Param("employeeId") Long employeeId);
     List<Employee> findByCompanyId(Integer companyId);
     List<Employee> findByStatus(String status);
     List<Employee> findByDomain(String domain);
-    List<Employee> findBySkillsContainingIgnoreCase(String skills);
-}
\ No newline at end of file
+
+    // Employees with a skill whose name contains the text, ignoring case
+    @Query("select e from Employee e where exists (select s from e.skills s "
+            + "where lower(s.skillName) like lower(concat('%', :skill, '%')))")
+    List<Employee> findBySkillsContainingIgnoreCase(@Param("skill") String skill);
+
+    @Query(SUMMARY_SELECT + "order by e.employeeId")
+    List<EmployeeSummaryDTO> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "where e.employeeId in :ids")
+    List<EmployeeSummaryDTO> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY_SELECT + "where e.managerId = :managerId")
+    List<EmployeeSummaryDTO> findSummariesByManagerId(@Param("managerId") Long managerId);
+
+    @Query(SUMMARY_SELECT + "where e.companyId = :companyId")
+    List<EmployeeSummaryDTO> findSummariesByCompanyId(@Param("companyId") Integer companyId);
+
+    @Query(SUMMARY_SELECT + "where e.domain = :domain")
+    List<EmployeeSummaryDTO> findSummariesByDomain(@Param("domain") String domain);
+
+    @Query(SUMMARY_SELECT + "where exists (select s from e.skills s "
+            + "where lower(s.skillName) like lower(concat('%', :skill, '%')))")
+    List<EmployeeSummaryDTO> findSummariesBySkillsContainingIgnoreCase(@Param("skill") String skill);
+
+    @Query("select e.employeeId as employeeId, s.skillId as skillId, s.skillName as skillName "
+            + "from Employee e join e.skills s where e.employeeId in :ids order by s.skillName")
+    List<EmployeeSkillRow> findSkillsByEmployeeIds(@Param("ids") Collection<Long> ids);
+
+    // Keyset over idx_employee_updated_at_id
+    @Query("select e from Employee e where e.updatedAt <= :until and (e.updatedAt > :afterTime "
+            + "or (e.updatedAt = :afterTime and e.employeeId > :afterId)) order by e.updatedAt, e.employeeId")
+    List<Employee> findChangedAfter(@Param("afterTime") LocalDateTime afterTime, @Param("afterId") Long afterId,
+                                    @Param("until") LocalDateTime until, Pageable pageable);
+
+    @Query("select max(e.updatedAt) from Employee e")
+    LocalDateTime findLastUpdatedAt();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select e.employeeId from Employee e")
+    Stream<Long> streamAllIds();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select e.employeeId as employeeId, s.skillId as skillId, s.skillName as skillName "
+            + "from Employee e join e.skills s")
+    Stream<EmployeeSkillRow> streamAllSkillRows();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select e.employeeId as employeeId, e.managerId as managerId, e.firstName as firstName, "
+            + "e.lastName as lastName, e.designationId as designationId from Employee e")
+    Stream<EmployeeHierarchyRow> streamAllHierarchyRows();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select e.employeeId as employeeId, e.firstName as firstName, e.lastName as lastName, "
+            + "e.email as email, e.domain as domain from Employee e")
+    Stream<EmployeeSearchRow> streamAllSearchRows();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select e.employeeId as employeeId, e.domain as domain, e.status as status, "
+            + "e.companyId as companyId, e.designationId as designationId from Employee e")
+    Stream<EmployeeFacetRow> streamAllFacetRows();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select e.email as email, e.panNumber as panNumber, e.bankAccountNumber as bankAccountNumber from Employee e")
+    Stream<EmployeeUniqueKeyRow> streamAllUniqueKeys();
+}
@@ -0,0 +1,31 @@
+package com.example.employee.repository;
+
+import com.example.employee.dto.EmployeeFilter;
+import com.example.employee.dto.EmployeeSummaryDTO;
+import com.example.employee.entity.Employee;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * Keyset page: rows strictly after (lastValue, lastId) in the given order.
+     * Pass a null lastId for the first page.
+     */
+    List<Employee> findPageAfter(EmployeeFilter filter, EmployeeSortField sortField, boolean ascending,
+                                 Comparable<?> lastValue, Long lastId, int limit);
+
+    /**
+     * Same keyset page as {@link #findPageAfter}, projected to the list view columns.
+     */
+    List<EmployeeSummaryDTO> findSummaryPageAfter(EmployeeFilter filter, EmployeeSortField sortField, boolean ascending,
+                                                  Comparable<?> lastValue, Long lastId, int limit);
+
+    /**
+     * Streams every matching employee in id order through a forward-only cursor, handing
+     * them over in chunks. The persistence context is cleared after each chunk so memory
+     * stays flat regardless of the result size. Must run inside a transaction.
+     */
+    void forEachChunk(EmployeeFilter filter, int fetchSize, Consumer<List<Employee>> action);
+}
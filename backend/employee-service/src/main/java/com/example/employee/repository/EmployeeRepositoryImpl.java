@@ -0,0 +1,151 @@
+package com.example.employee.repository;
+
+import com.example.employee.config.SqlFunctionsConfig;
+import com.example.employee.dto.EmployeeFilter;
+import com.example.employee.dto.EmployeeSummaryDTO;
+import com.example.employee.entity.Employee;
+import com.example.employee.entity.Skills;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class EmployeeRepositoryImpl implements EmployeeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Employee> findPageAfter(EmployeeFilter filter, EmployeeSortField sortField, boolean ascending,
+                                        Comparable<?> lastValue, Long lastId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Employee> query = cb.createQuery(Employee.class);
+        Root<Employee> root = query.from(Employee.class);
+        query.select(root);
+        applyKeyset(cb, query, root, filter, sortField, ascending, lastValue, lastId);
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<EmployeeSummaryDTO> findSummaryPageAfter(EmployeeFilter filter, EmployeeSortField sortField,
+                                                         boolean ascending, Comparable<?> lastValue, Long lastId,
+                                                         int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EmployeeSummaryDTO> query = cb.createQuery(EmployeeSummaryDTO.class);
+        Root<Employee> root = query.from(Employee.class);
+
+        // Correlated like EmployeeRepository.SUMMARY_SELECT, so only the page rows aggregate skills
+        Subquery<String> skills = query.subquery(String.class);
+        Root<Employee> owner = skills.from(Employee.class);
+        Join<Employee, Skills> skill = owner.join("skills");
+        skills.select(cb.function(SqlFunctionsConfig.SKILL_LIST, String.class, skill.get("skillName")))
+                .where(cb.equal(owner.get("employeeId"), root.get("employeeId")));
+
+        query.select(cb.construct(EmployeeSummaryDTO.class,
+                root.get("employeeId"), root.get("firstName"), root.get("lastName"), root.get("email"),
+                root.get("domain"), root.get("status"), root.get("hireDate"), skills));
+        applyKeyset(cb, query, root, filter, sortField, ascending, lastValue, lastId);
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static void applyKeyset(CriteriaBuilder cb, CriteriaQuery<?> query, Root<Employee> root,
+                                    EmployeeFilter filter, EmployeeSortField sortField, boolean ascending,
+                                    Comparable<?> lastValue, Long lastId) {
+        List<Predicate> predicates = filterPredicates(cb, root, filter);
+        Path<Long> id = root.get("employeeId");
+        if (lastId != null) {
+            if (sortField == EmployeeSortField.EMPLOYEE_ID) {
+                predicates.add(after(cb, id, lastId, ascending));
+            } else {
+                Expression<Comparable> sortPath = root.get(sortField.getAttribute());
+                Comparable value = lastValue;
+                predicates.add(cb.or(
+                        after(cb, sortPath, value, ascending),
+                        cb.and(cb.equal(sortPath, value), after(cb, id, lastId, ascending))));
+            }
+        }
+
+        query.where(predicates.toArray(new Predicate[0]));
+        if (sortField == EmployeeSortField.EMPLOYEE_ID) {
+            query.orderBy(ascending ? cb.asc(id) : cb.desc(id));
+        } else {
+            Path<?> sortPath = root.get(sortField.getAttribute());
+            query.orderBy(ascending ? cb.asc(sortPath) : cb.desc(sortPath),
+                    ascending ? cb.asc(id) : cb.desc(id));
+        }
+    }
+
+    @Override
+    public void forEachChunk(EmployeeFilter filter, int fetchSize, Consumer<List<Employee>> action) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Employee> query = cb.createQuery(Employee.class);
+        Root<Employee> root = query.from(Employee.class);
+        query.select(root)
+                .where(filterPredicates(cb, root, filter).toArray(new Predicate[0]))
+                .orderBy(cb.asc(root.get("employeeId")));
+
+        Query<Employee> hibernateQuery = entityManager.createQuery(query).unwrap(Query.class);
+        hibernateQuery.setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE);
+
+        List<Employee> chunk = new ArrayList<>(fetchSize);
+        try (CursorFetch cursor = CursorFetch.open(entityManager.unwrap(Session.class));
+             ScrollableResults results = hibernateQuery.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                chunk.add((Employee) results.get(0));
+                if (chunk.size() == fetchSize) {
+                    action.accept(chunk);
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            action.accept(chunk);
+            entityManager.clear();
+        }
+    }
+
+    static List<Predicate> filterPredicates(CriteriaBuilder cb, Root<Employee> root, EmployeeFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter == null) {
+            return predicates;
+        }
+        if (filter.getStatus() != null) {
+            predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+        }
+        if (filter.getDomain() != null) {
+            predicates.add(cb.equal(root.get("domain"), filter.getDomain()));
+        }
+        if (filter.getCompanyId() != null) {
+            predicates.add(cb.equal(root.get("companyId"), filter.getCompanyId()));
+        }
+        return predicates;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Predicate after(CriteriaBuilder cb, Expression path, Comparable value, boolean ascending) {
+        return ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+    }
+}
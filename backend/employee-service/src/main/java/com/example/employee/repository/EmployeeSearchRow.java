@@ -0,0 +1,9 @@
+package com.example.employee.repository;
+
+public interface EmployeeSearchRow {
+    Long getEmployeeId();
+    String getFirstName();
+    String getLastName();
+    String getEmail();
+    String getDomain();
+}
@@ -0,0 +1,7 @@
+package com.example.employee.repository;
+
+public interface EmployeeSkillRow {
+    Long getEmployeeId();
+    Long getSkillId();
+    String getSkillName();
+}
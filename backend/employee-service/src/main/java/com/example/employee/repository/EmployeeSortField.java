@@ -0,0 +1,38 @@
+package com.example.employee.repository;
+
+import com.example.employee.exception.InvalidRequestException;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.function.Function;
+
+public enum EmployeeSortField {
+    EMPLOYEE_ID("employeeId", Long::valueOf),
+    FIRST_NAME("firstName", value -> value),
+    LAST_NAME("lastName", value -> value),
+    EMAIL("email", value -> value),
+    HIRE_DATE("hireDate", LocalDate::parse);
+
+    private final String attribute;
+    private final Function<String, Comparable<?>> parser;
+
+    EmployeeSortField(String attribute, Function<String, Comparable<?>> parser) {
+        this.attribute = attribute;
+        this.parser = parser;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public Comparable<?> parseValue(String value) {
+        return parser.apply(value);
+    }
+
+    public static EmployeeSortField fromAttribute(String attribute) {
+        return Arrays.stream(values())
+                .filter(field -> field.attribute.equalsIgnoreCase(attribute))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("sort", "Unsupported sort field: " + attribute));
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.employee.repository;
+
+import com.example.employee.entity.EmployeeTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmployeeTombstoneRepository extends JpaRepository<EmployeeTombstone, Long> {
+
+    @Query("select t.employeeId from EmployeeTombstone t where t.deletedAt > :since and t.deletedAt <= :until "
+            + "order by t.deletedAt, t.employeeId")
+    List<Long> findDeletedIdsBetween(@Param("since") LocalDateTime since, @Param("until") LocalDateTime until);
+
+    @Query("select max(t.deletedAt) from EmployeeTombstone t")
+    LocalDateTime findLastDeletedAt();
+
+    @Modifying
+    @Query("delete from EmployeeTombstone t where t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
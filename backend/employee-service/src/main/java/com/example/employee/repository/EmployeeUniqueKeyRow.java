@@ -0,0 +1,7 @@
+package com.example.employee.repository;
+
+public interface EmployeeUniqueKeyRow {
+    String getEmail();
+    String getPanNumber();
+    String getBankAccountNumber();
+}
@@ -2,11 +2,23 @@ package com.example.employee.repository;
 
 import com.example.employee.entity.Skills;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+
 @Repository
 public interface SkillsRepository extends JpaRepository<Skills, Long> {
+
+    String SKILL_BY_NAME_CACHE_REGION = "skills-by-name";
+
+    @QueryHints({
+        @QueryHint(name = HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HINT_CACHE_REGION, value = SKILL_BY_NAME_CACHE_REGION)
+    })
     Optional<Skills> findBySkillName(String skillName);
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.example.employee.service;
+
+import com.example.employee.entity.Employee;
+import com.example.employee.exception.InvalidCursorException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque watermark for the delta sync API. A sync window covers changes stamped in
+ * (since, until]; until is fixed by the first page of the window and the keyset
+ * position (afterTime, afterId) pages through the upserts inside it. A null since
+ * means a full sync, which needs no tombstones.
+ */
+@Getter
+public final class ChangeCursor {
+
+    private static final String SEPARATOR = "|";
+    private static final String NONE = "-";
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final LocalDateTime since;
+    private final LocalDateTime until;
+    private final LocalDateTime afterTime;
+    private final Long afterId;
+
+    private ChangeCursor(LocalDateTime since, LocalDateTime until, LocalDateTime afterTime, Long afterId) {
+        this.since = since;
+        this.until = until;
+        this.afterTime = afterTime;
+        this.afterId = afterId;
+    }
+
+    public static ChangeCursor start(LocalDateTime since) {
+        return new ChangeCursor(since, null, since == null ? BEGINNING : since, 0L);
+    }
+
+    public ChangeCursor withUntil(LocalDateTime until) {
+        return new ChangeCursor(since, until, afterTime, afterId);
+    }
+
+    public ChangeCursor after(Employee employee) {
+        return new ChangeCursor(since, until, employee.getUpdatedAt(), employee.getEmployeeId());
+    }
+
+    public boolean isWindowStart() {
+        return until == null;
+    }
+
+    public String encode() {
+        String raw = format(since) + SEPARATOR + format(until) + SEPARATOR + afterTime + SEPARATOR + afterId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChangeCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            return new ChangeCursor(parse(parts[0]), parse(parts[1]), LocalDateTime.parse(parts[2]), Long.valueOf(parts[3]));
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException("sinceToken", "Invalid sync token");
+        }
+    }
+
+    private static String format(LocalDateTime time) {
+        return time == null ? NONE : time.toString();
+    }
+
+    private static LocalDateTime parse(String value) {
+        return NONE.equals(value) ? null : LocalDateTime.parse(value);
+    }
+}
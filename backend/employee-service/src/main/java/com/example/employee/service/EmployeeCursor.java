@@ -0,0 +1,98 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.EmployeeFilter;
+import com.example.employee.dto.EmployeeSummaryDTO;
+import com.example.employee.entity.Employee;
+import com.example.employee.exception.InvalidCursorException;
+import com.example.employee.repository.EmployeeSortField;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.CRC32;
+
+/**
+ * Opaque continuation token for keyset pagination. Encodes the sort order and the
+ * position of the last row returned so the next page can resume with an index seek,
+ * plus a fingerprint of the filters so a cursor is only accepted with the filters it
+ * was issued for.
+ */
+@Getter
+public final class EmployeeCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final EmployeeSortField sortField;
+    private final boolean ascending;
+    private final Long lastId;
+    private final String lastValue;
+
+    private EmployeeCursor(EmployeeSortField sortField, boolean ascending, Long lastId, String lastValue) {
+        this.sortField = sortField;
+        this.ascending = ascending;
+        this.lastId = lastId;
+        this.lastValue = lastValue;
+    }
+
+    public static EmployeeCursor after(Employee employee, EmployeeSortField sortField, boolean ascending) {
+        String value = switch (sortField) {
+            case EMPLOYEE_ID -> String.valueOf(employee.getEmployeeId());
+            case FIRST_NAME -> employee.getFirstName();
+            case LAST_NAME -> employee.getLastName();
+            case EMAIL -> employee.getEmail();
+            case HIRE_DATE -> String.valueOf(employee.getHireDate());
+        };
+        return new EmployeeCursor(sortField, ascending, employee.getEmployeeId(), value);
+    }
+
+    public static EmployeeCursor after(EmployeeSummaryDTO summary, EmployeeSortField sortField, boolean ascending) {
+        String value = switch (sortField) {
+            case EMPLOYEE_ID -> String.valueOf(summary.getEmployeeId());
+            case FIRST_NAME -> summary.getFirstName();
+            case LAST_NAME -> summary.getLastName();
+            case EMAIL -> summary.getEmail();
+            case HIRE_DATE -> String.valueOf(summary.getHireDate());
+        };
+        return new EmployeeCursor(sortField, ascending, summary.getEmployeeId(), value);
+    }
+
+    public Comparable<?> getTypedLastValue() {
+        return sortField.parseValue(lastValue);
+    }
+
+    public String encode(EmployeeFilter filter) {
+        String raw = sortField.name() + SEPARATOR + (ascending ? "A" : "D") + SEPARATOR + fingerprint(filter)
+                + SEPARATOR + lastId + SEPARATOR + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EmployeeCursor decode(String token, EmployeeFilter filter) {
+        EmployeeCursor cursor;
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            parts = raw.split("\\|", 5);
+            cursor = new EmployeeCursor(
+                    EmployeeSortField.valueOf(parts[0]),
+                    "A".equals(parts[1]),
+                    Long.valueOf(parts[3]),
+                    parts[4]);
+            cursor.getTypedLastValue();
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException("cursor", "Invalid pagination cursor");
+        }
+        if (!parts[2].equals(fingerprint(filter))) {
+            throw new InvalidCursorException("cursor", "The cursor was issued for different filters; start again from the first page");
+        }
+        return cursor;
+    }
+
+    private static String fingerprint(EmployeeFilter filter) {
+        CRC32 crc = new CRC32();
+        if (filter != null) {
+            String key = filter.getStatus() + "\u0000" + filter.getDomain() + "\u0000" + filter.getCompanyId();
+            crc.update(key.getBytes(StandardCharsets.UTF_8));
+        }
+        return Long.toHexString(crc.getValue());
+    }
+}
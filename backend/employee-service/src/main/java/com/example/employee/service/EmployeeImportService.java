@@ -0,0 +1,333 @@
+package com.example.employee.service;
+
+import com.example.employee.config.EmployeeProperties;
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.dto.ImportReportDTO;
+import com.example.employee.entity.Employee;
+import com.example.employee.entity.Skills;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.exception.DuplicateEmployeeException;
+import com.example.employee.mapper.EmployeeMapper;
+import com.example.employee.repository.SkillsRepository;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams freelancer records from a JSON array, NDJSON or CSV upload and inserts them
+ * with JDBC batches, committing once per chunk. Invalid rows are reported instead of
+ * failing the load; a chunk rejected by the database is retried row by row so only the
+ * offending records are dropped.
+ *
+ * Hibernate cannot batch inserts for IDENTITY ids, so this path writes through JDBC and
+ * reads the generated keys back from each batched statement.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmployeeImportService {
+
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final String INSERT_EMPLOYEE = "insert into employee (first_name, last_name, email, "
+            + "phone_number, date_of_birth, gender, designation_id, hire_date, salary, manager_id, company_id, "
+            + "bank_name, bank_account_number, ifsc_code, pan_number, photo_url, linkedin_url, github_url, "
+            + "domain, status, created_at, updated_at, version) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_EMPLOYEE_SKILL = "insert into employee_skills (employee_id, skill_id) values (?, ?)";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SkillsRepository skillsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmployeeProperties properties;
+    private final EmployeeMapper employeeMapper;
+    private final RegistrationUniquenessService uniquenessService;
+
+    private final CsvMapper csvMapper = (CsvMapper) new CsvMapper()
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .findAndRegisterModules();
+
+    public ImportReportDTO importEmployees(InputStream body, MediaType contentType) throws IOException {
+        long start = System.nanoTime();
+        EmployeeProperties.BulkImport settings = properties.getBulkImport();
+        ImportReportDTO report = new ImportReportDTO();
+        Map<String, Skills> skillsByName = loadSkills();
+        List<PendingRow> chunk = new ArrayList<>(settings.getChunkSize());
+
+        try (MappingIterator<EmployeeDTO> records = readerFor(contentType).readValues(body)) {
+            long row = 0;
+            while (records.hasNextValue()) {
+                row++;
+                EmployeeDTO dto;
+                try {
+                    dto = records.nextValue();
+                } catch (JsonParseException ex) {
+                    // Malformed syntax: the rest of the stream cannot be trusted
+                    addError(report, row, null, "Malformed input: " + ex.getOriginalMessage());
+                    break;
+                } catch (JsonMappingException ex) {
+                    addError(report, row, fieldOf(ex), ex.getOriginalMessage());
+                    continue;
+                }
+
+                PendingRow pending = toPendingRow(row, dto, skillsByName, report);
+                if (pending != null) {
+                    chunk.add(pending);
+                    if (chunk.size() >= settings.getChunkSize()) {
+                        flush(chunk, report);
+                    }
+                }
+            }
+            report.setTotalRows(row);
+        }
+        flush(chunk, report);
+
+        report.setFailed(report.getTotalRows() - report.getImported());
+        report.setDurationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        log.info("Bulk import finished: {} rows, {} imported, {} failed in {} ms",
+                report.getTotalRows(), report.getImported(), report.getFailed(), report.getDurationMs());
+        return report;
+    }
+
+    /**
+     * Inserts employees already known to be valid and unique, such as seed data, through
+     * the same JDBC batches as an upload, in one transaction. Ids are set on return.
+     */
+    public void insertAll(List<Employee> employees) {
+        List<PendingRow> rows = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            rows.add(new PendingRow(rows.size() + 1, employee));
+        }
+        transactionTemplate.executeWithoutResult(status -> insert(rows));
+    }
+
+    private ObjectReader readerFor(MediaType contentType) {
+        if (contentType != null && contentType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE))) {
+            return csvMapper.readerFor(EmployeeDTO.class)
+                    .with(CsvSchema.emptySchema().withHeader());
+        }
+        // A top-level JSON array and newline-delimited JSON objects are both read value by value
+        return objectMapper.readerFor(EmployeeDTO.class);
+    }
+
+    private PendingRow toPendingRow(long row, EmployeeDTO dto, Map<String, Skills> skillsByName, ImportReportDTO report) {
+        if (dto == null) {
+            addError(report, row, null, "Record is empty");
+            return null;
+        }
+        Set<ConstraintViolation<EmployeeDTO>> violations = validator.validate(dto);
+        for (ConstraintViolation<EmployeeDTO> violation : violations) {
+            addError(report, row, violation.getPropertyPath().toString(), violation.getMessage());
+        }
+
+        Set<Skills> skills = new HashSet<>();
+        boolean unknownSkill = false;
+        if (dto.getSkillsString() != null) {
+            for (String name : dto.getSkillsString().split(",")) {
+                if (name.isBlank()) {
+                    continue;
+                }
+                Skills skill = skillsByName.get(name.trim().toLowerCase(Locale.ROOT));
+                if (skill == null) {
+                    addError(report, row, "skillsString", "Unknown skill: " + name.trim());
+                    unknownSkill = true;
+                } else {
+                    skills.add(skill);
+                }
+            }
+        }
+        if (!violations.isEmpty() || unknownSkill) {
+            return null;
+        }
+        try {
+            uniquenessService.checkAvailable(dto, null);
+        } catch (DuplicateEmployeeException ex) {
+            addError(report, row, ex.getField(), ex.getMessage());
+            return null;
+        }
+
+        Employee employee = new Employee();
+        employeeMapper.updateEntity(dto, employee);
+        if (employee.getStatus() == null) {
+            employee.setStatus("Active");
+        }
+        employee.setSkills(skills);
+        return new PendingRow(row, employee);
+    }
+
+    private void flush(List<PendingRow> chunk, ImportReportDTO report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(chunk));
+            report.setImported(report.getImported() + chunk.size());
+        } catch (DataAccessException ex) {
+            log.debug("Import chunk rejected, retrying {} rows individually", chunk.size(), ex);
+            for (PendingRow pending : chunk) {
+                pending.employee.setEmployeeId(null);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(pending)));
+                    report.setImported(report.getImported() + 1);
+                } catch (DataAccessException rowEx) {
+                    String message = NestedExceptionUtils.getMostSpecificCause(rowEx).getMessage();
+                    addError(report, pending.row, null, message == null ? null : message.lines().findFirst().orElse(message));
+                }
+            }
+        }
+        chunk.clear();
+    }
+
+    private void insert(List<PendingRow> rows) {
+        int batchSize = properties.getBulkImport().getBatchSize();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            insertEmployees(connection, rows, batchSize, now);
+            insertEmployeeSkills(connection, rows, batchSize);
+            return null;
+        });
+        for (PendingRow pending : rows) {
+            eventPublisher.publishEvent(EmployeeChangedEvent.saved(EmployeeChangedEvent.Type.CREATED, pending.employee));
+        }
+    }
+
+    private void insertEmployees(Connection connection, List<PendingRow> rows, int batchSize, Timestamp now)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_EMPLOYEE, Statement.RETURN_GENERATED_KEYS)) {
+            int batchStart = 0;
+            for (int i = 0; i < rows.size(); i++) {
+                bindEmployee(statement, rows.get(i).employee, now);
+                statement.addBatch();
+                if ((i + 1) % batchSize == 0 || i == rows.size() - 1) {
+                    statement.executeBatch();
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        for (int j = batchStart; j <= i; j++) {
+                            if (!keys.next()) {
+                                throw new SQLException("Driver returned fewer generated keys than inserted rows");
+                            }
+                            rows.get(j).employee.setEmployeeId(keys.getLong(1));
+                        }
+                    }
+                    batchStart = i + 1;
+                }
+            }
+        }
+    }
+
+    private void insertEmployeeSkills(Connection connection, List<PendingRow> rows, int batchSize) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_EMPLOYEE_SKILL)) {
+            int pending = 0;
+            for (PendingRow row : rows) {
+                for (Skills skill : row.employee.getSkills()) {
+                    statement.setLong(1, row.employee.getEmployeeId());
+                    statement.setLong(2, skill.getSkillId());
+                    statement.addBatch();
+                    if (++pending % batchSize == 0) {
+                        statement.executeBatch();
+                    }
+                }
+            }
+            if (pending % batchSize != 0) {
+                statement.executeBatch();
+            }
+        }
+    }
+
+    private static void bindEmployee(PreparedStatement statement, Employee employee, Timestamp now) throws SQLException {
+        int i = 1;
+        statement.setString(i++, employee.getFirstName());
+        statement.setString(i++, employee.getLastName());
+        statement.setString(i++, employee.getEmail());
+        statement.setString(i++, employee.getPhoneNumber());
+        statement.setObject(i++, employee.getDateOfBirth());
+        statement.setString(i++, employee.getGender());
+        statement.setObject(i++, employee.getDesignationId());
+        statement.setObject(i++, employee.getHireDate());
+        statement.setBigDecimal(i++, employee.getSalary());
+        statement.setObject(i++, employee.getManagerId());
+        statement.setObject(i++, employee.getCompanyId());
+        statement.setString(i++, employee.getBankName());
+        statement.setString(i++, employee.getBankAccountNumber());
+        statement.setString(i++, employee.getIfscCode());
+        statement.setString(i++, employee.getPanNumber());
+        statement.setString(i++, employee.getPhotoUrl());
+        statement.setString(i++, employee.getLinkedinUrl());
+        statement.setString(i++, employee.getGithubUrl());
+        statement.setString(i++, employee.getDomain());
+        statement.setString(i++, employee.getStatus());
+        statement.setTimestamp(i++, now);
+        statement.setTimestamp(i, now);
+    }
+
+    private Map<String, Skills> loadSkills() {
+        Map<String, Skills> skillsByName = new HashMap<>();
+        for (Skills skill : skillsRepository.findAll()) {
+            skillsByName.put(skill.getSkillName().toLowerCase(Locale.ROOT), skill);
+        }
+        return skillsByName;
+    }
+
+    private void addError(ImportReportDTO report, long row, String field, String message) {
+        if (report.getErrors().size() < properties.getBulkImport().getMaxReportedErrors()) {
+            report.getErrors().add(new ImportReportDTO.RowError(row, field, message));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+
+    private static String fieldOf(JsonMappingException ex) {
+        List<JsonMappingException.Reference> path = ex.getPath();
+        return path.isEmpty() ? null : path.get(path.size() - 1).getFieldName();
+    }
+
+    private static final class PendingRow {
+        private final long row;
+        private final Employee employee;
+
+        private PendingRow(long row, Employee employee) {
+            this.row = row;
+            this.employee = employee;
+        }
+    }
+}
@@ -1,53 +1,243 @@
 package com.example.employee.service;
 
+import com.example.employee.cache.EmployeeDtoCache;
+import com.example.employee.config.EmployeeProperties;
+import com.example.employee.dto.CursorPageDTO;
 import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.dto.EmployeeFilter;
+import com.example.employee.dto.EmployeeSummaryDTO;
+import com.example.employee.dto.FacetCountsDTO;
+import com.example.employee.dto.HeadcountDTO;
+import com.example.employee.dto.OrgNodeDTO;
+import com.example.employee.dto.SearchPageDTO;
 import com.example.employee.entity.Employee;
+import com.example.employee.entity.EmployeeTombstone;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.exception.InvalidCursorException;
+import com.example.employee.exception.InvalidRequestException;
+import com.example.employee.index.Facet;
+import com.example.employee.index.FacetIndex;
+import com.example.employee.index.ManagerHierarchyIndex;
+import com.example.employee.index.SkillIndex;
+import com.example.employee.index.TypeaheadIndex;
+import com.example.employee.mapper.EmployeeMapper;
 import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.EmployeeSkillRow;
+import com.example.employee.repository.EmployeeSortField;
+import com.example.employee.repository.EmployeeTombstoneRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.BeanUtils;
+import org.roaringbitmap.longlong.PeekableLongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.persistence.EntityNotFoundException;
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("employee.service")
 public class EmployeeService {
 
+    // Keeps the IN list of the batched skills query well below driver/optimizer limits
+    private static final int SKILL_BATCH_SIZE = 500;
+
     private final EmployeeRepository employeeRepository;
+    private final EmployeeTombstoneRepository tombstoneRepository;
+    private final EmployeeProperties properties;
+    private final SkillIndex skillIndex;
+    private final ManagerHierarchyIndex managerHierarchyIndex;
+    private final TypeaheadIndex typeaheadIndex;
+    private final FacetIndex facetIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmployeeDtoCache employeeDtoCache;
+    private final EmployeeMapper employeeMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final RegistrationUniquenessService uniquenessService;
+    private final PlatformTransactionManager transactionManager;
 
     @Transactional(readOnly = true)
     public List<EmployeeDTO> getAllEmployees() {
-        return employeeRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(employeeRepository.findAll());
+    }
+
+    @Transactional(readOnly = true)
+    public List<EmployeeSummaryDTO> getAllEmployeeSummaries() {
+        return employeeRepository.findAllSummaries();
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<EmployeeDTO> getEmployeePage(EmployeeFilter filter, Integer size, String cursor,
+                                                      String sort, String direction) {
+        return keysetPage(filter, size, cursor, sort, direction, employeeRepository::findPageAfter,
+                this::convertToDTOs, EmployeeCursor::after);
     }
 
     @Transactional(readOnly = true)
+    public CursorPageDTO<EmployeeSummaryDTO> getEmployeeSummaryPage(EmployeeFilter filter, Integer size, String cursor,
+                                                                    String sort, String direction) {
+        return keysetPage(filter, size, cursor, sort, direction, employeeRepository::findSummaryPageAfter,
+                Function.identity(), EmployeeCursor::after);
+    }
+
+    private <R, T> CursorPageDTO<T> keysetPage(EmployeeFilter filter, Integer size, String cursor, String sort,
+                                               String direction, KeysetQuery<R> query,
+                                               Function<List<R>, List<T>> convert, CursorFactory<R> cursorFactory) {
+        EmployeeProperties.Pagination pagination = properties.getPagination();
+        int pageSize = size == null ? pagination.getDefaultSize() : Math.min(Math.max(size, 1), pagination.getMaxSize());
+
+        EmployeeCursor after = cursor == null ? null : EmployeeCursor.decode(cursor, filter);
+        EmployeeSortField requestedField = sort == null ? null : EmployeeSortField.fromAttribute(sort);
+        Boolean requestedAscending = direction == null ? null : !"desc".equalsIgnoreCase(direction);
+        if (after != null && (requestedField != null && requestedField != after.getSortField()
+                || requestedAscending != null && requestedAscending != after.isAscending())) {
+            throw new InvalidCursorException("cursor", "The cursor was issued for a different sort order; start again from the first page");
+        }
+        EmployeeSortField sortField = after != null ? after.getSortField()
+                : requestedField == null ? EmployeeSortField.EMPLOYEE_ID : requestedField;
+        boolean ascending = after != null ? after.isAscending() : !Boolean.FALSE.equals(requestedAscending);
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        List<R> rows = query.find(filter, sortField, ascending,
+                after == null ? null : after.getTypedLastValue(),
+                after == null ? null : after.getLastId(),
+                pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        CursorPageDTO<T> page = new CursorPageDTO<>();
+        page.setContent(convert.apply(rows));
+        page.setSize(page.getContent().size());
+        page.setHasMore(hasMore);
+        if (hasMore) {
+            page.setNextCursor(cursorFactory.after(rows.get(rows.size() - 1), sortField, ascending).encode(filter));
+        }
+        return page;
+    }
+
+    // Not transactional: cache hits must not open a transaction or borrow a connection
     public EmployeeDTO getEmployeeById(Long id) {
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Employee not found with id: " + id));
-        return convertToDTO(employee);
+        return employeeDtoCache.get(id, this::loadEmployee);
+    }
+
+    // The employee and its skills come from one read-only transaction, so one snapshot; the
+    // skills collection is usually served by the employee-skills second-level cache region
+    private EmployeeDTO loadEmployee(Long id) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> employeeMapper.toDto(employeeRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Employee not found with id: " + id))));
     }
 
     @Transactional
     public EmployeeDTO createEmployee(EmployeeDTO employeeDTO) {
-        Employee employee = new Employee();
-        BeanUtils.copyProperties(employeeDTO, employee);
+        uniquenessService.checkAvailable(employeeDTO, null);
+        Employee employee = employeeMapper.toEntity(employeeDTO);
         employee = employeeRepository.save(employee);
-        return convertToDTO(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.saved(EmployeeChangedEvent.Type.CREATED, employee));
+        return employeeMapper.toDto(employee);
     }
 
     @Transactional
     public EmployeeDTO updateEmployee(Long id, EmployeeDTO employeeDTO) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Employee not found with id: " + id));
-        
-        BeanUtils.copyProperties(employeeDTO, employee, "employeeId", "createdAt", "updatedAt");
-        employee = employeeRepository.save(employee);
-        return convertToDTO(employee);
+        checkVersion(employee, employeeDTO.getVersion());
+        checkManager(id, employeeDTO.getManagerId());
+        uniquenessService.checkAvailable(employeeDTO, employee);
+
+        employeeMapper.updateEntity(employeeDTO, employee);
+        return saveUpdated(employee);
+    }
+
+    /**
+     * Applies a JSON Merge Patch (RFC 7396): members present in the patch replace the
+     * stored values, null members clear them, absent members are left alone. Only the
+     * changed columns are written (Employee is @DynamicUpdate).
+     */
+    @Transactional
+    public EmployeeDTO patchEmployee(Long id, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidRequestException("A merge patch must be a JSON object");
+        }
+        Employee employee = employeeRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Employee not found with id: " + id));
+
+        EmployeeDTO patched;
+        try {
+            patched = objectMapper.readerForUpdating(employeeMapper.toDto(employee, null))
+                    .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(patch);
+        } catch (JsonProcessingException ex) {
+            throw new InvalidRequestException("Invalid merge patch: " + ex.getOriginalMessage());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        checkVersion(employee, patched.getVersion());
+        Set<ConstraintViolation<EmployeeDTO>> violations = validator.validate(patched);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        if (patch.has("managerId")) {
+            checkManager(id, patched.getManagerId());
+        }
+        uniquenessService.checkAvailable(patched, employee);
+
+        employeeMapper.updateEntity(patched, employee);
+        return saveUpdated(employee);
+    }
+
+    private EmployeeDTO saveUpdated(Employee employee) {
+        // Flush so the returned DTO carries the new updatedAt and version
+        employee = employeeRepository.saveAndFlush(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.saved(EmployeeChangedEvent.Type.UPDATED, employee));
+        return employeeMapper.toDto(employee);
+    }
+
+    private static void checkVersion(Employee employee, Long expectedVersion) {
+        if (expectedVersion != null && expectedVersion != employee.getVersion()) {
+            throw new ObjectOptimisticLockingFailureException(Employee.class, employee.getEmployeeId());
+        }
+    }
+
+    // Walks the chain in the database, not ManagerHierarchyIndex, which may not have seen writes made on other replicas
+    private void checkManager(Long id, Long managerId) {
+        Set<Long> seen = new HashSet<>();
+        Long current = managerId;
+        while (id != null && current != null && seen.add(current)) {
+            if (current.equals(id)) {
+                throw new InvalidRequestException("managerId", "Employee " + managerId
+                        + " reports to employee " + id + " and cannot become its manager");
+            }
+            current = employeeRepository.findManagerIdById(current).orElse(null);
+        }
     }
 
     @Transactional
@@ -56,48 +246,178 @@ public class EmployeeService {
             throw new EntityNotFoundException("Employee not found with id: " + id);
         }
         employeeRepository.deleteById(id);
+        tombstoneRepository.save(new EmployeeTombstone(id));
+        eventPublisher.publishEvent(EmployeeChangedEvent.deleted(id));
+    }
+
+    public List<OrgNodeDTO> getReportingTree(Long id, Integer maxDepth) {
+        return managerHierarchyIndex.subtree(id, maxDepth == null ? Integer.MAX_VALUE : Math.max(maxDepth, 0))
+                .orElseThrow(() -> new EntityNotFoundException("Employee not found with id: " + id));
+    }
+
+    public List<OrgNodeDTO> getManagerChain(Long id) {
+        return managerHierarchyIndex.managerChain(id)
+                .orElseThrow(() -> new EntityNotFoundException("Employee not found with id: " + id));
+    }
+
+    public HeadcountDTO getHeadcount(Long id) {
+        return managerHierarchyIndex.headcount(id)
+                .orElseThrow(() -> new EntityNotFoundException("Employee not found with id: " + id));
     }
 
     @Transactional(readOnly = true)
     public List<EmployeeDTO> getEmployeesByManager(Long managerId) {
-        return employeeRepository.findByManagerId(managerId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(employeeRepository.findByManagerId(managerId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<EmployeeSummaryDTO> getEmployeeSummariesByManager(Long managerId) {
+        return employeeRepository.findSummariesByManagerId(managerId);
     }
 
     @Transactional(readOnly = true)
     public List<EmployeeDTO> getEmployeesByCompany(Integer companyId) {
-        return employeeRepository.findByCompanyId(companyId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(employeeRepository.findByCompanyId(companyId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<EmployeeSummaryDTO> getEmployeeSummariesByCompany(Integer companyId) {
+        return employeeRepository.findSummariesByCompanyId(companyId);
     }
 
     @Transactional(readOnly = true)
     public List<EmployeeDTO> getFreelancersByDomain(String domain) {
-        return employeeRepository.findByDomain(domain).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(employeeRepository.findByDomain(domain));
+    }
+
+    @Transactional(readOnly = true)
+    public List<EmployeeSummaryDTO> getFreelancerSummariesByDomain(String domain) {
+        return employeeRepository.findSummariesByDomain(domain);
     }
 
     @Transactional(readOnly = true)
     public List<EmployeeDTO> getFreelancersBySkills(String skills) {
-        return employeeRepository.findBySkillsContainingIgnoreCase(skills).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-    }
-
-    private EmployeeDTO convertToDTO(Employee employee) {
-        EmployeeDTO dto = new EmployeeDTO();
-        BeanUtils.copyProperties(employee, dto);
-        
-        // Convert skills set to comma-separated string
-        if (employee.getSkills() != null && !employee.getSkills().isEmpty()) {
-            String skillsString = employee.getSkills().stream()
-                .map(skill -> skill.getSkillName())
-                .collect(Collectors.joining(", "));
-            dto.setSkillsString(skillsString);
-        }
-        
-        return dto;
-    }
-}
\ No newline at end of file
+        return convertToDTOs(employeeRepository.findBySkillsContainingIgnoreCase(skills));
+    }
+
+    @Transactional(readOnly = true)
+    public List<EmployeeSummaryDTO> getFreelancerSummariesBySkills(String skills) {
+        return employeeRepository.findSummariesBySkillsContainingIgnoreCase(skills);
+    }
+
+    @Transactional(readOnly = true)
+    public SearchPageDTO<EmployeeDTO> searchFreelancersBySkills(String query, int page, Integer size) {
+        return searchBySkills(query, page, size,
+                ids -> convertToDTOs(employeeRepository.findAllById(ids)), EmployeeDTO::getEmployeeId);
+    }
+
+    @Transactional(readOnly = true)
+    public SearchPageDTO<EmployeeSummaryDTO> searchFreelancerSummariesBySkills(String query, int page, Integer size) {
+        return searchBySkills(query, page, size,
+                employeeRepository::findSummariesByIds, EmployeeSummaryDTO::getEmployeeId);
+    }
+
+    private <T> SearchPageDTO<T> searchBySkills(String query, int page, Integer size,
+                                                Function<List<Long>, List<T>> load, Function<T, Long> idOf) {
+        EmployeeProperties.Pagination pagination = properties.getPagination();
+        int pageSize = size == null ? pagination.getDefaultSize() : Math.min(Math.max(size, 1), pagination.getMaxSize());
+        int pageNumber = Math.max(page, 0);
+
+        Roaring64Bitmap matches = skillIndex.search(query);
+        List<Long> ids = new ArrayList<>(pageSize);
+        long offset = (long) pageNumber * pageSize;
+        if (offset < matches.getLongCardinality()) {
+            PeekableLongIterator iterator = matches.getLongIterator();
+            iterator.advanceIfNeeded(matches.select(offset));
+            while (iterator.hasNext() && ids.size() < pageSize) {
+                ids.add(iterator.next());
+            }
+        }
+
+        List<T> content = ids.isEmpty() ? new ArrayList<>() : new ArrayList<>(load.apply(ids));
+        content.sort(Comparator.comparing(idOf));
+
+        SearchPageDTO<T> result = new SearchPageDTO<>();
+        result.setContent(content);
+        result.setPage(pageNumber);
+        result.setSize(pageSize);
+        result.setTotalMatches(matches.getLongCardinality());
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public List<EmployeeDTO> typeahead(String query, Integer limit) {
+        return typeahead(query, limit, ids -> convertToDTOs(employeeRepository.findAllById(ids)), EmployeeDTO::getEmployeeId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<EmployeeSummaryDTO> typeaheadSummaries(String query, Integer limit) {
+        return typeahead(query, limit, employeeRepository::findSummariesByIds, EmployeeSummaryDTO::getEmployeeId);
+    }
+
+    private <T> List<T> typeahead(String query, Integer limit, Function<List<Long>, List<T>> load,
+                                  Function<T, Long> idOf) {
+        EmployeeProperties.Typeahead config = properties.getTypeahead();
+        int resultLimit = limit == null ? config.getDefaultResults() : Math.min(Math.max(limit, 1), config.getMaxResults());
+
+        List<Long> ids = typeaheadIndex.search(query, resultLimit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, T> byId = load.apply(ids).stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+        // Keep the index ranking; ids deleted since the lookup are dropped
+        return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    /**
+     * @param facets facet names to count; empty means all
+     * @param filter optional {@code facet:value} restricting the counted employees
+     */
+    public FacetCountsDTO getFacetCounts(List<String> facets, String filter) {
+        List<Facet> selected = facets == null || facets.isEmpty()
+                ? Arrays.asList(Facet.values())
+                : facets.stream().map(Facet::fromName).distinct().collect(Collectors.toList());
+        if (filter == null || filter.isBlank()) {
+            return facetIndex.counts(selected, null, null);
+        }
+        int separator = filter.indexOf(':');
+        if (separator <= 0) {
+            throw new InvalidRequestException("filter", "Facet filter must look like facet:value, got: " + filter);
+        }
+        return facetIndex.counts(selected, Facet.fromName(filter.substring(0, separator)),
+                filter.substring(separator + 1).trim());
+    }
+
+    /**
+     * Converts a list of employees loading their skills with one query per batch
+     * instead of initializing the lazy collection of every row.
+     */
+    List<EmployeeDTO> convertToDTOs(List<Employee> employees) {
+        Map<Long, List<String>> skillsByEmployee = new HashMap<>();
+        List<Long> ids = employees.stream().map(Employee::getEmployeeId).collect(Collectors.toList());
+        for (int from = 0; from < ids.size(); from += SKILL_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + SKILL_BATCH_SIZE, ids.size()));
+            for (EmployeeSkillRow row : employeeRepository.findSkillsByEmployeeIds(batch)) {
+                skillsByEmployee.computeIfAbsent(row.getEmployeeId(), id -> new ArrayList<>()).add(row.getSkillName());
+            }
+        }
+
+        List<EmployeeDTO> dtos = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            dtos.add(employeeMapper.toDto(employee, skillsByEmployee.get(employee.getEmployeeId())));
+        }
+        return dtos;
+    }
+
+    @FunctionalInterface
+    private interface KeysetQuery<R> {
+        List<R> find(EmployeeFilter filter, EmployeeSortField sortField, boolean ascending,
+                     Comparable<?> lastValue, Long lastId, int limit);
+    }
+
+    @FunctionalInterface
+    private interface CursorFactory<R> {
+        EmployeeCursor after(R lastRow, EmployeeSortField sortField, boolean ascending);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.employee.service;
+
+import com.example.employee.config.EmployeeProperties;
+import com.example.employee.dto.ChangesDTO;
+import com.example.employee.entity.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.EmployeeTombstoneRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Delta sync for clients that mirror the directory: changes since a watermark instead
+ * of the full list, and a cheap fingerprint of the whole directory for list ETags.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Timed("employee.service")
+public class EmployeeSyncService {
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeTombstoneRepository tombstoneRepository;
+    private final EmployeeService employeeService;
+    private final EmployeeProperties properties;
+
+    /**
+     * Windows end commit-lag in the past, so a transaction that stamped its rows before
+     * the window closed but committed after it is still seen by the next window.
+     */
+    @Transactional(readOnly = true)
+    public ChangesDTO getChanges(String sinceToken, Integer limit) {
+        EmployeeProperties.Sync config = properties.getSync();
+        int pageSize = limit == null ? config.getDefaultPageSize() : Math.min(Math.max(limit, 1), config.getMaxPageSize());
+        LocalDateTime now = LocalDateTime.now();
+        ChangeCursor cursor = sinceToken == null ? ChangeCursor.start(null) : ChangeCursor.decode(sinceToken);
+
+        ChangesDTO changes = new ChangesDTO();
+        if (cursor.getSince() != null && cursor.getSince().isBefore(now.minus(config.getTombstoneRetention()))) {
+            changes.setResyncRequired(true);
+            return changes;
+        }
+        if (cursor.isWindowStart()) {
+            LocalDateTime until = now.minus(config.getCommitLag());
+            if (cursor.getSince() != null && !until.isAfter(cursor.getSince())) {
+                changes.setNextToken(sinceToken);
+                return changes;
+            }
+            if (cursor.getSince() != null) {
+                changes.setDeletedIds(tombstoneRepository.findDeletedIdsBetween(cursor.getSince(), until));
+            }
+            cursor = cursor.withUntil(until);
+        }
+
+        List<Employee> rows = employeeRepository.findChangedAfter(cursor.getAfterTime(), cursor.getAfterId(),
+                cursor.getUntil(), PageRequest.of(0, pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+        changes.setUpserts(employeeService.convertToDTOs(rows));
+        changes.setHasMore(hasMore);
+        changes.setNextToken((hasMore ? cursor.after(rows.get(rows.size() - 1)) : ChangeCursor.start(cursor.getUntil())).encode());
+        return changes;
+    }
+
+    /**
+     * Changes whenever an employee is created, updated or deleted.
+     */
+    @Transactional(readOnly = true)
+    public String directoryVersion() {
+        return employeeRepository.count() + "|" + micros(employeeRepository.findLastUpdatedAt())
+                + "|" + micros(tombstoneRepository.findLastDeletedAt());
+    }
+
+    @Transactional
+    public void pruneTombstones() {
+        int pruned = tombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(properties.getSync().getTombstoneRetention()));
+        if (pruned > 0) {
+            log.info("Pruned {} employee tombstones", pruned);
+        }
+    }
+
+    // Entities fresh from a flush carry nanoseconds the database does not store
+    public static LocalDateTime micros(LocalDateTime time) {
+        return time == null ? null : time.truncatedTo(ChronoUnit.MICROS);
+    }
+}
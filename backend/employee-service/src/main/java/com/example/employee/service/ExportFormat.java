@@ -0,0 +1,33 @@
+package com.example.employee.service;
+
+import com.example.employee.exception.InvalidRequestException;
+
+import java.util.Arrays;
+
+public enum ExportFormat {
+    NDJSON(EmployeeImportService.APPLICATION_NDJSON_VALUE, "ndjson"),
+    CSV(EmployeeImportService.TEXT_CSV_VALUE, "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat fromName(String name) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("format", "Unsupported export format: " + name));
+    }
+}
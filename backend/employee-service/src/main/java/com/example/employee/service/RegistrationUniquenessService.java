@@ -0,0 +1,189 @@
+package com.example.employee.service;
+
+import com.example.employee.config.EmployeeProperties;
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.entity.Employee;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.exception.DuplicateEmployeeException;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.EmployeeUniqueKeyRow;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Rejects registrations that reuse an email, PAN or bank account before they reach the
+ * unique constraints. One Bloom filter per key answers "definitely new" from memory;
+ * only possible duplicates cost an indexed lookup. Filters never forget, so keys freed
+ * by updates or deletes just turn into false positives until the next rebuild, which
+ * runs at startup and every employee.uniqueness.rebuild-interval.
+ */
+@Slf4j
+@Service
+public class RegistrationUniquenessService {
+
+    enum UniqueKey {
+        EMAIL("email", Employee::getEmail, EmployeeDTO::getEmail),
+        PAN_NUMBER("panNumber", Employee::getPanNumber, EmployeeDTO::getPanNumber),
+        BANK_ACCOUNT_NUMBER("bankAccountNumber", Employee::getBankAccountNumber, EmployeeDTO::getBankAccountNumber);
+
+        private final String field;
+        private final Function<Employee, String> entityValue;
+        private final Function<EmployeeDTO, String> dtoValue;
+
+        UniqueKey(String field, Function<Employee, String> entityValue, Function<EmployeeDTO, String> dtoValue) {
+            this.field = field;
+            this.entityValue = entityValue;
+            this.dtoValue = dtoValue;
+        }
+    }
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeProperties properties;
+
+    // Null until the first rebuild; every key is then confirmed against the database
+    private volatile Map<UniqueKey, BloomFilter<String>> filters;
+    // Filters being built; writes that commit during the key scan are added to both
+    private volatile Map<UniqueKey, BloomFilter<String>> building;
+
+    private final Counter filteredCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter duplicateCounter;
+
+    public RegistrationUniquenessService(EmployeeRepository employeeRepository, EmployeeProperties properties,
+                                         MeterRegistry registry) {
+        this.employeeRepository = employeeRepository;
+        this.properties = properties;
+        this.filteredCounter = counter(registry, "filtered");
+        this.falsePositiveCounter = counter(registry, "false_positive");
+        this.duplicateCounter = counter(registry, "duplicate");
+        Gauge.builder("registration.uniqueness.expected.fpp", this,
+                        service -> {
+                            Map<UniqueKey, BloomFilter<String>> built = service.filters;
+                            return built == null ? Double.NaN : built.get(UniqueKey.EMAIL).expectedFpp();
+                        })
+                .description("Expected false positive rate of the email Bloom filter")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long employees = employeeRepository.count();
+        Map<UniqueKey, BloomFilter<String>> rebuilt = newFilters(employees);
+        building = rebuilt;
+        try (Stream<EmployeeUniqueKeyRow> rows = employeeRepository.streamAllUniqueKeys()) {
+            rows.forEach(row -> {
+                put(rebuilt, UniqueKey.EMAIL, row.getEmail());
+                put(rebuilt, UniqueKey.PAN_NUMBER, row.getPanNumber());
+                put(rebuilt, UniqueKey.BANK_ACCOUNT_NUMBER, row.getBankAccountNumber());
+            });
+        }
+        filters = rebuilt;
+        building = null;
+        log.info("Registration uniqueness filters built for {} employees, expected false positive rate {}",
+                employees, String.format("%.4f", rebuilt.get(UniqueKey.EMAIL).expectedFpp()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.getType() == EmployeeChangedEvent.Type.DELETED) {
+            return;
+        }
+        Map<UniqueKey, BloomFilter<String>> live = filters;
+        Map<UniqueKey, BloomFilter<String>> inProgress = building;
+        for (UniqueKey key : UniqueKey.values()) {
+            String value = key.entityValue.apply(event.getEmployee());
+            if (live != null) {
+                put(live, key, value);
+            }
+            if (inProgress != null) {
+                put(inProgress, key, value);
+            }
+        }
+    }
+
+    /**
+     * Throws DuplicateEmployeeException for the first unique key of the candidate that
+     * belongs to another employee. Keys unchanged from {@code current} are not checked.
+     *
+     * @param current the stored employee when updating, null when registering
+     */
+    public void checkAvailable(EmployeeDTO candidate, Employee current) {
+        Map<UniqueKey, BloomFilter<String>> built = filters;
+        for (UniqueKey key : UniqueKey.values()) {
+            String value = key.dtoValue.apply(candidate);
+            if (value == null || (current != null && value.equals(key.entityValue.apply(current)))) {
+                continue;
+            }
+            if (built != null && !built.get(key).mightContain(normalize(key, value))) {
+                filteredCounter.increment();
+                continue;
+            }
+            Optional<Employee> owner = find(key, value);
+            if (owner.isPresent() && (current == null || !owner.get().getEmployeeId().equals(current.getEmployeeId()))) {
+                duplicateCounter.increment();
+                throw new DuplicateEmployeeException(key.field, value);
+            }
+            // Before the first rebuild every key is looked up, so a miss says nothing about the filter
+            if (built != null) {
+                falsePositiveCounter.increment();
+            }
+        }
+    }
+
+    private Optional<Employee> find(UniqueKey key, String value) {
+        return switch (key) {
+            case EMAIL -> employeeRepository.findByEmail(value);
+            case PAN_NUMBER -> employeeRepository.findByPanNumber(value);
+            case BANK_ACCOUNT_NUMBER -> employeeRepository.findByBankAccountNumber(value);
+        };
+    }
+
+    private Map<UniqueKey, BloomFilter<String>> newFilters(long employees) {
+        EmployeeProperties.Uniqueness config = properties.getUniqueness();
+        // Headroom for growth until the next rebuild
+        long expected = Math.max(config.getMinExpectedKeys(), employees * 2);
+        Map<UniqueKey, BloomFilter<String>> created = new EnumMap<>(UniqueKey.class);
+        for (UniqueKey key : UniqueKey.values()) {
+            created.put(key, BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expected,
+                    config.getFalsePositiveRate()));
+        }
+        return created;
+    }
+
+    private static void put(Map<UniqueKey, BloomFilter<String>> filters, UniqueKey key, String value) {
+        if (value != null) {
+            filters.get(key).put(normalize(key, value));
+        }
+    }
+
+    // Emails compare case-insensitively under the default MySQL collation
+    private static String normalize(UniqueKey key, String value) {
+        String trimmed = value.trim();
+        return key == UniqueKey.EMAIL ? trimmed.toLowerCase(Locale.ROOT) : trimmed.toUpperCase(Locale.ROOT);
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("registration.uniqueness.checks")
+                .description("Unique key checks by outcome; filtered ones needed no database lookup")
+                .tag("result", result)
+                .register(registry);
+    }
+}
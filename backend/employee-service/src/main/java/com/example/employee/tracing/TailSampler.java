@@ -0,0 +1,239 @@
+package com.example.employee.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import com.example.employee.config.EmployeeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tail-based sampling: every request is recorded, its spans are held until the local root
+ * span (the server span of the request) ends, and only then is the trace kept or dropped.
+ * A trace is kept when the root took at least employee.tail-sampling.latency-threshold,
+ * when any of its spans failed or answered 5xx, or when its trace id falls in the baseline
+ * share. Kept traces go on to the wrapped reporter; dropped ones cost only the buffering.
+ * Traces the head sampler chose are reported as they are, since services downstream of this
+ * one report their part of them too.
+ *
+ * Buffered spans are capped at max-buffered-spans; past that, spans are dropped on arrival.
+ * Traces whose root never ends are swept by {@link #evictStale()} after max-trace-duration.
+ * Spans that end after their root, from work the request left running, follow the
+ * decision already made for the trace.
+ */
+public class TailSampler implements MeterBinder {
+
+    private static final int REMEMBERED_DECISIONS = 10_000;
+
+    private final EmployeeProperties.TailSampling config;
+    private final long baselineBound;
+    private final Map<Long, TraceBuffer> buffers = new ConcurrentHashMap<>();
+    private final AtomicInteger bufferedSpans = new AtomicInteger();
+    private final Map<Long, Boolean> decisions = Collections.synchronizedMap(
+            new LinkedHashMap<Long, Boolean>(1024, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                    return size() > REMEMBERED_DECISIONS;
+                }
+            });
+    private final Map<String, Counter> traces = new HashMap<>();
+    private Counter overflowSpans;
+
+    public TailSampler(EmployeeProperties.TailSampling config) {
+        this.config = config;
+        // Compared with the low bits of the trace id, so every service keeps the same baseline traces
+        this.baselineBound = (long) (Math.max(0, Math.min(1, config.getBaselineRate())) * 10_000);
+    }
+
+    /** Wraps a span reporter, such as the Zipkin handler, so it only sees kept traces. */
+    public SpanHandler wrap(SpanHandler reporter) {
+        return new TailSamplingSpanHandler(reporter);
+    }
+
+    /** Drops the buffers of traces whose root span has been open longer than max-trace-duration. */
+    public void evictStale() {
+        long cutoff = System.nanoTime() - config.getMaxTraceDuration().toNanos();
+        Iterator<Map.Entry<Long, TraceBuffer>> iterator = buffers.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, TraceBuffer> entry = iterator.next();
+            if (entry.getValue().created < cutoff) {
+                iterator.remove();
+                bufferedSpans.addAndGet(-entry.getValue().close());
+                count("dropped", "expired");
+            }
+        }
+    }
+
+    private String keepReason(TraceContext context, MutableSpan root, boolean childFailed) {
+        if (childFailed || failed(root)) {
+            return "error";
+        }
+        long durationMicros = root.finishTimestamp() - root.startTimestamp();
+        if (root.startTimestamp() != 0 && root.finishTimestamp() != 0
+                && durationMicros >= TimeUnit.NANOSECONDS.toMicros(config.getLatencyThreshold().toNanos())) {
+            return "slow";
+        }
+        if (Math.floorMod(context.traceId(), 10_000L) < baselineBound) {
+            return "baseline";
+        }
+        return null;
+    }
+
+    private static boolean failed(MutableSpan span) {
+        if (span.error() != null || span.tag("error") != null) {
+            return true;
+        }
+        String status = span.tag("http.status_code");
+        return status != null && status.startsWith("5");
+    }
+
+    private void count(String decision, String reason) {
+        Counter counter = traces.get(decision + ":" + reason);
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String reason : new String[] {"head", "slow", "error", "baseline"}) {
+            traces.put("kept:" + reason, traceCounter(registry, "kept", reason));
+        }
+        for (String reason : new String[] {"sampled-out", "expired"}) {
+            traces.put("dropped:" + reason, traceCounter(registry, "dropped", reason));
+        }
+        overflowSpans = Counter.builder("tracing.tail.spans.overflow")
+                .description("Spans dropped because the tail sampling buffer was full")
+                .register(registry);
+        Gauge.builder("tracing.tail.spans.buffered", bufferedSpans, AtomicInteger::get)
+                .description("Spans held until their trace is decided")
+                .register(registry);
+    }
+
+    private static Counter traceCounter(MeterRegistry registry, String decision, String reason) {
+        return Counter.builder("tracing.tail.traces")
+                .description("Traces decided by tail sampling")
+                .tag("decision", decision)
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private static final class TraceBuffer {
+
+        private final long created = System.nanoTime();
+        private final List<TraceContext> contexts = new ArrayList<>();
+        private final List<MutableSpan> spans = new ArrayList<>();
+        private boolean failed;
+        private boolean closed;
+
+        /** Returns false once the trace has been decided or evicted. */
+        synchronized boolean add(TraceContext context, MutableSpan span) {
+            if (closed) {
+                return false;
+            }
+            contexts.add(context);
+            spans.add(span);
+            failed |= failed(span);
+            return true;
+        }
+
+        /** Stops further adds and returns the number of spans held. */
+        synchronized int close() {
+            closed = true;
+            return spans.size();
+        }
+    }
+
+    private final class TailSamplingSpanHandler extends SpanHandler {
+
+        private final SpanHandler reporter;
+
+        private TailSamplingSpanHandler(SpanHandler reporter) {
+            this.reporter = reporter;
+        }
+
+        @Override
+        public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+            if (cause == Cause.ABANDONED) {
+                return reporter.end(context, span, cause);
+            }
+            if (Boolean.TRUE.equals(context.sampled())) {
+                if (context.isLocalRoot()) {
+                    count("kept", "head");
+                }
+                return reporter.end(context, span, cause);
+            }
+            long root = context.localRootId();
+            if (!context.isLocalRoot()) {
+                Boolean decided = decisions.get(root);
+                if (decided != null) {
+                    return !decided || reporter.end(context, span, cause);
+                }
+                if (bufferedSpans.incrementAndGet() > config.getMaxBufferedSpans()) {
+                    bufferedSpans.decrementAndGet();
+                    if (overflowSpans != null) {
+                        overflowSpans.increment();
+                    }
+                    return true;
+                }
+                if (buffers.computeIfAbsent(root, id -> new TraceBuffer()).add(context, span)) {
+                    return true;
+                }
+                // The root ended in between
+                bufferedSpans.decrementAndGet();
+                decided = decisions.get(root);
+                return decided == null || !decided || reporter.end(context, span, cause);
+            }
+
+            TraceBuffer buffer = buffers.remove(root);
+            String reason;
+            if (buffer == null) {
+                reason = keepReason(context, span, false);
+                decisions.put(root, reason != null);
+            } else {
+                synchronized (buffer) {
+                    reason = keepReason(context, span, buffer.failed);
+                    // Recorded before the buffer closes, so a span that finds it closed finds the decision
+                    decisions.put(root, reason != null);
+                    bufferedSpans.addAndGet(-buffer.close());
+                }
+            }
+            if (reason == null) {
+                count("dropped", "sampled-out");
+                return true;
+            }
+            count("kept", reason);
+            if (buffer != null) {
+                synchronized (buffer) {
+                    for (int i = 0; i < buffer.spans.size(); i++) {
+                        reporter.end(buffer.contexts.get(i), buffer.spans.get(i), Cause.FINISHED);
+                    }
+                }
+            }
+            return reporter.end(context, span, cause);
+        }
+
+        @Override
+        public boolean handlesAbandoned() {
+            return reporter.handlesAbandoned();
+        }
+
+        @Override
+        public String toString() {
+            return "TailSampling(" + reporter + ")";
+        }
+    }
+}
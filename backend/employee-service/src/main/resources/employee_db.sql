@@ -155,6 +155,11 @@ INSERT INTO EmployeeSkills (employee_id, skill_id, proficiency_level, years_of_e
 CREATE INDEX idx_employee_email ON Employee(email);
 CREATE INDEX idx_employee_domain ON Employee(domain);
 CREATE INDEX idx_employee_status ON Employee(status);
+CREATE INDEX idx_employee_company ON Employee(company_id);
+-- Keyset pagination indexes (sort column + primary key tie-breaker)
+CREATE INDEX idx_employee_first_name_id ON Employee(first_name, employee_id);
+CREATE INDEX idx_employee_last_name_id ON Employee(last_name, employee_id);
+CREATE INDEX idx_employee_hire_date_id ON Employee(hire_date, employee_id);
 CREATE INDEX idx_skills_name ON Skills(skill_name);
 CREATE INDEX idx_skills_category ON Skills(category);
 CREATE INDEX idx_employee_skills_employee ON EmployeeSkills(employee_id);
@@ -0,0 +1,45 @@
+package com.example.employee;
+
+import com.example.employee.dto.EmployeeDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Valid employee records whose unique keys derive from a sequence number, for tests that
+ * run against the in-memory database of the test profile.
+ */
+public final class TestEmployees {
+
+    private TestEmployees() {
+    }
+
+    public static EmployeeDTO employee(int sequence) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setFirstName("Test");
+        dto.setLastName("Employee");
+        dto.setEmail("employee" + sequence + "@example.com");
+        dto.setPhoneNumber(String.format("9%09d", sequence));
+        dto.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        dto.setGender("Other");
+        dto.setDesignationId(1);
+        dto.setHireDate(LocalDate.of(2023, 1, 1).plusDays(sequence));
+        dto.setSalary(BigDecimal.valueOf(50_000));
+        dto.setCompanyId(1);
+        dto.setBankName("Test Bank");
+        dto.setBankAccountNumber(String.valueOf(10_000_000_000L + sequence));
+        dto.setIfscCode("TEST0000001");
+        dto.setPanNumber(String.format("ABCDE%04dF", sequence));
+        dto.setDomain("Web Development");
+        dto.setStatus("Active");
+        return dto;
+    }
+
+    /** Empties the employee tables; the in-memory indexes are left to the caller. */
+    public static void reset(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("delete from employee_skills");
+        jdbcTemplate.update("delete from employee_tombstone");
+        jdbcTemplate.update("delete from employee");
+    }
+}
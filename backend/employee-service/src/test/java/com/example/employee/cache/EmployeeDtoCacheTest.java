@@ -0,0 +1,66 @@
+package com.example.employee.cache;
+
+import com.example.employee.config.EmployeeProperties;
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.entity.Employee;
+import com.example.employee.event.EmployeeChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeDtoCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private EmployeeDtoCache cache;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeProperties properties = new EmployeeProperties();
+        properties.getDtoCache().setEnabled(true);
+        cache = new EmployeeDtoCache(properties, new LoopbackInvalidationChannel());
+    }
+
+    @Test
+    void servesHitsUntilAWriteCommits() {
+        cache.get(1L, id -> load(id, 0));
+        assertThat(cache.get(1L, id -> load(id, 0)).getVersion()).isZero();
+        assertThat(loads).hasValue(1);
+
+        cache.onEmployeeChanged(updated(1L, 1));
+        assertThat(cache.get(1L, id -> load(id, 1)).getVersion()).isEqualTo(1);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void doesNotStoreACopyOlderThanTheLastWrite() {
+        // A read that began before the write commits finishes after the eviction
+        cache.get(1L, id -> {
+            cache.onEmployeeChanged(updated(id, 1));
+            return load(id, 0);
+        });
+        assertThat(cache.get(1L, id -> load(id, 1)).getVersion()).isEqualTo(1);
+
+        cache.onEmployeeChanged(EmployeeChangedEvent.deleted(1L));
+        cache.get(1L, id -> load(id, 1));
+        cache.get(1L, id -> load(id, 1));
+        assertThat(loads).hasValue(4);
+    }
+
+    private EmployeeDTO load(Long id, long version) {
+        loads.incrementAndGet();
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setEmployeeId(id);
+        dto.setVersion(version);
+        return dto;
+    }
+
+    private static EmployeeChangedEvent updated(Long id, long version) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(id);
+        employee.setVersion(version);
+        return EmployeeChangedEvent.saved(EmployeeChangedEvent.Type.UPDATED, employee);
+    }
+}
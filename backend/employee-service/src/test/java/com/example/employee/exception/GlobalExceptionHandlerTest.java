@@ -0,0 +1,75 @@
+package com.example.employee.exception;
+
+import com.example.employee.TestEmployees;
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.mapper.EmployeeMapper;
+import com.example.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class GlobalExceptionHandlerTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeMapper employeeMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @BeforeEach
+    void seed() {
+        TestEmployees.reset(jdbcTemplate);
+        employeeRepository.saveAndFlush(employeeMapper.toEntity(TestEmployees.employee(0)));
+    }
+
+    @Test
+    void namesTheFieldOfTheViolatedUniqueConstraint() {
+        EmployeeDTO sameEmail = TestEmployees.employee(1);
+        sameEmail.setEmail(TestEmployees.employee(0).getEmail());
+        EmployeeDTO samePan = TestEmployees.employee(2);
+        samePan.setPanNumber(TestEmployees.employee(0).getPanNumber());
+        EmployeeDTO sameAccount = TestEmployees.employee(3);
+        sameAccount.setBankAccountNumber(TestEmployees.employee(0).getBankAccountNumber());
+
+        assertThat(conflict(sameEmail).getField()).isEqualTo("email");
+        assertThat(conflict(samePan).getField()).isEqualTo("panNumber");
+        assertThat(conflict(sameAccount).getField()).isEqualTo("bankAccountNumber");
+    }
+
+    @Test
+    void leavesOtherViolationsToTheDefaultHandling() {
+        DataIntegrityViolationException ex = catchThrowableOfType(
+                () -> jdbcTemplate.update("insert into employee_skills (employee_id, skill_id) values (-1, -1)"),
+                DataIntegrityViolationException.class);
+        assertThat(ex).isNotNull();
+
+        assertThatThrownBy(() -> handler.handleDataIntegrityViolation(ex)).isSameAs(ex);
+    }
+
+    // Saved straight through the repository, as when two registrations race past the pre-check
+    private GlobalExceptionHandler.ErrorResponse conflict(EmployeeDTO duplicate) {
+        DataIntegrityViolationException ex = catchThrowableOfType(
+                () -> employeeRepository.saveAndFlush(employeeMapper.toEntity(duplicate)),
+                DataIntegrityViolationException.class);
+        assertThat(ex).isNotNull();
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = handler.handleDataIntegrityViolation(ex);
+        assertThat(response.getStatusCodeValue()).isEqualTo(409);
+        return response.getBody();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.employee.index;
+
+import com.example.employee.dto.FacetCountsDTO;
+import com.example.employee.entity.Employee;
+import com.example.employee.entity.Skills;
+import com.example.employee.event.EmployeeChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FacetIndexTest {
+
+    private static final Skills JAVA = skill(1L, "Java", "Backend");
+    private static final Skills KOTLIN = skill(2L, "Kotlin", "Backend");
+    private static final Skills FIGMA = skill(3L, "Figma", "Design");
+
+    private FacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FacetIndex(null, null);
+        save(EmployeeChangedEvent.Type.CREATED, 1L, "Web Development", "Active", JAVA, KOTLIN);
+        save(EmployeeChangedEvent.Type.CREATED, 2L, "Web Development", "Inactive", JAVA);
+        save(EmployeeChangedEvent.Type.CREATED, 3L, "UX Design", "Active", FIGMA);
+    }
+
+    @Test
+    void countsEveryFacetValueMostCommonFirst() {
+        FacetCountsDTO counts = index.counts(List.of(Facet.DOMAIN, Facet.SKILL, Facet.SKILL_CATEGORY), null, null);
+
+        assertThat(counts.getTotal()).isEqualTo(3);
+        assertThat(counts.getFacets().get("domain")).containsExactly(
+                Map.entry("Web Development", 2L), Map.entry("UX Design", 1L));
+        assertThat(counts.getFacets().get("skill")).containsExactly(
+                Map.entry("Java", 2L), Map.entry("Figma", 1L), Map.entry("Kotlin", 1L));
+        // An employee with two backend skills counts once for the category
+        assertThat(counts.getFacets().get("skillCategory")).containsExactly(
+                Map.entry("Backend", 2L), Map.entry("Design", 1L));
+    }
+
+    @Test
+    void countsWithinAFilterValue() {
+        FacetCountsDTO counts = index.counts(List.of(Facet.STATUS, Facet.SKILL), Facet.DOMAIN, "Web Development");
+
+        assertThat(counts.getTotal()).isEqualTo(2);
+        assertThat(counts.getFacets().get("status")).containsExactly(
+                Map.entry("Active", 1L), Map.entry("Inactive", 1L));
+        assertThat(counts.getFacets().get("skill")).containsExactly(
+                Map.entry("Java", 2L), Map.entry("Kotlin", 1L));
+        assertThat(index.counts(List.of(Facet.STATUS), Facet.DOMAIN, "Unknown").getTotal()).isZero();
+    }
+
+    @Test
+    void updatesAndDeletesMoveTheCounters() {
+        save(EmployeeChangedEvent.Type.UPDATED, 2L, "UX Design", "Active", FIGMA);
+        index.onEmployeeChanged(EmployeeChangedEvent.deleted(1L));
+
+        FacetCountsDTO counts = index.counts(List.of(Facet.DOMAIN, Facet.STATUS, Facet.SKILL), null, null);
+        assertThat(counts.getTotal()).isEqualTo(2);
+        assertThat(counts.getFacets().get("domain")).containsExactly(Map.entry("UX Design", 2L));
+        assertThat(counts.getFacets().get("status")).containsExactly(Map.entry("Active", 2L));
+        // Values no employee has any more disappear instead of staying at zero
+        assertThat(counts.getFacets().get("skill")).containsExactly(Map.entry("Figma", 2L));
+        assertThat(index.counts(List.of(Facet.SKILL), Facet.SKILL, "Java").getFacets().get("skill")).isEmpty();
+    }
+
+    private void save(EmployeeChangedEvent.Type type, Long id, String domain, String status, Skills... skills) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(id);
+        employee.setDomain(domain);
+        employee.setStatus(status);
+        employee.setCompanyId(1);
+        employee.setSkills(Set.of(skills));
+        index.onEmployeeChanged(EmployeeChangedEvent.saved(type, employee));
+    }
+
+    private static Skills skill(Long id, String name, String category) {
+        Skills skill = new Skills();
+        skill.setSkillId(id);
+        skill.setSkillName(name);
+        skill.setCategory(category);
+        return skill;
+    }
+}
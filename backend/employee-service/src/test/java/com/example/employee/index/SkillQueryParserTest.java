@@ -0,0 +1,56 @@
+package com.example.employee.index;
+
+import com.example.employee.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SkillQueryParserTest {
+
+    private static final long LARGE_ID = 3_000_000_000L;
+
+    private static final Map<String, Roaring64Bitmap> SKILLS = Map.of(
+            "Java", Roaring64Bitmap.bitmapOf(1, 2, 3, LARGE_ID),
+            "Kubernetes", Roaring64Bitmap.bitmapOf(2, 3, 4),
+            "PHP", Roaring64Bitmap.bitmapOf(3, 5),
+            "Not Only SQL", Roaring64Bitmap.bitmapOf(5));
+    private static final Roaring64Bitmap ALL = Roaring64Bitmap.bitmapOf(1, 2, 3, 4, 5, 6, LARGE_ID);
+
+    @Test
+    void andBindsTighterThanOr() {
+        assertThat(search("PHP OR Java AND Kubernetes")).containsExactly(2L, 3L, 5L);
+        assertThat(search("(PHP OR Java) AND Kubernetes")).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void notExcludesFromTheLeftOperandOrFromEveryone() {
+        assertThat(search("Java NOT PHP")).containsExactly(1L, 2L, LARGE_ID);
+        assertThat(search("NOT Java")).containsExactly(4L, 5L, 6L);
+    }
+
+    @Test
+    void multiWordAndQuotedSkillNames() {
+        assertThat(search("Not Only SQL")).containsExactly(5L);
+        assertThat(search("\"Java\" OR Not Only SQL")).containsExactly(1L, 2L, 3L, 5L, LARGE_ID);
+        assertThat(search("Cobol")).isEmpty();
+    }
+
+    @Test
+    void rejectsMalformedQueries() {
+        assertThatThrownBy(() -> search(" ")).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> search("(Java OR PHP")).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> search("Java AND")).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> search("Java )")).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> search("\"Java")).isInstanceOf(InvalidRequestException.class);
+    }
+
+    private static Iterable<Long> search(String query) {
+        Roaring64Bitmap result = new SkillQueryParser(query,
+                skill -> SKILLS.getOrDefault(skill, new Roaring64Bitmap()).clone(), ALL).parse();
+        return result::iterator;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.employee.index;
+
+import com.example.employee.config.EmployeeProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeaheadIndexTest {
+
+    private TypeaheadIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TypeaheadIndex(null, new EmployeeProperties());
+        index.put(1L, "Maria", "Lopez", "maria.lopez@example.com", "Data Science", List.of("Python"));
+        index.put(2L, "Marianne", "Weber", "m.weber@example.com", "Web Development", List.of("Java"));
+        index.put(3L, "Tom", "Maria", "tom@example.com", "Web Development", List.of("Java"));
+        index.put(4L, "Anna", "Schmidt", "anna@example.com", "Mariadb Tuning", List.of("Mariadb"));
+    }
+
+    @Test
+    void ranksExactNameMatchesAbovePrefixesAndOtherFields() {
+        // Exact first and last names tie and come first, then the first-name prefix, then skill and domain prefixes
+        assertThat(index.search("maria", 10)).containsExactly(1L, 3L, 2L, 4L);
+        assertThat(index.search("maria lop", 10)).containsExactly(1L);
+        assertThat(index.search("web java", 10)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void toleratesTypos() {
+        assertThat(index.search("lopex", 10)).containsExactly(1L);
+        assertThat(index.search("schmdit", 10)).containsExactly(4L);
+        assertThat(index.search("xyz", 10)).isEmpty();
+    }
+
+    @Test
+    void forgetsTermsNoEmployeeUsesAnyMore() {
+        int terms = index.termCount();
+
+        index.put(1L, "Maria", "Garcia", "maria.garcia@example.com", "Data Science", List.of("Python"));
+        assertThat(index.search("lopez", 10)).isEmpty();
+        assertThat(index.search("garcia", 10)).containsExactly(1L);
+        assertThat(index.termCount()).isEqualTo(terms);
+
+        index.remove(4L);
+        assertThat(index.search("schmidt", 10)).isEmpty();
+        assertThat(index.search("mariadb", 10)).isEmpty();
+        // anna, schmidt, mariadb and tuning; "example" is still used by the others
+        assertThat(index.termCount()).isEqualTo(terms - 4);
+    }
+
+    @Test
+    void acceptsEmployeeIdsBeyondTheIntRange() {
+        long id = 3_000_000_000L;
+        index.put(id, "Zoe", "Quinn", "zoe@example.com", "Security", List.of("Go"));
+
+        assertThat(index.search("quinn", 10)).containsExactly(id);
+        index.remove(id);
+        assertThat(index.search("quinn", 10)).isEmpty();
+    }
+
+    @Test
+    void tracksItsSizeAsEmployeesComeAndGo() {
+        long size = index.estimateBytes();
+        assertThat(size).isPositive();
+
+        index.put(5L, "Zoe", "Quinn", "zoe@example.com", "Security", List.of("Go"));
+        assertThat(index.estimateBytes()).isGreaterThan(size);
+        index.remove(5L);
+        assertThat(index.estimateBytes()).isEqualTo(size);
+    }
+
+    @Test
+    void indexesOnlyNamesAndKnownTermsOnceOverBudget() {
+        EmployeeProperties properties = new EmployeeProperties();
+        properties.getTypeahead().setMemoryBudget(DataSize.ofBytes(1));
+        TypeaheadIndex small = new TypeaheadIndex(null, properties);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        small.bindTo(registry);
+
+        small.put(1L, "Maria", "Lopez", "maria.lopez@example.com", "Data Science", List.of("Python"));
+        small.put(2L, "Tom", "Weber", "tom@example.com", "Security", List.of("Maria"));
+
+        assertThat(small.search("lopez", 10)).containsExactly(1L);
+        assertThat(small.search("weber", 10)).containsExactly(2L);
+        // The skill joins the existing name term, the new domain term is refused
+        assertThat(small.search("maria", 10)).containsExactly(1L, 2L);
+        assertThat(small.search("security", 10)).isEmpty();
+        assertThat(registry.get("typeahead.budget.refused").functionCounter().count()).isPositive();
+        assertThat(registry.get("typeahead.index.size").gauge().value()).isEqualTo(small.estimateBytes());
+    }
+}
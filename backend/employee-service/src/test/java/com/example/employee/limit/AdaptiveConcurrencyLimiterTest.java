@@ -0,0 +1,100 @@
+package com.example.employee.limit;
+
+import com.example.employee.config.EmployeeProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeProperties.ConcurrencyLimit config = new EmployeeProperties.ConcurrencyLimit();
+        // Windows close on sample count alone, so the test controls them through the fake clock
+        config.setWindow(Duration.ZERO);
+        limiter = new AdaptiveConcurrencyLimiter(config, clock::get);
+    }
+
+    @Test
+    void lowerPrioritiesGetAShareOfTheLimit() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        limiter.bindTo(registry);
+
+        // Bulk requests alone cannot take the headroom reserved for the others
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquireAll(Priority.BULK);
+        assertThat(permits).hasSize(10);
+        permits.addAll(acquireAll(Priority.NORMAL));
+        assertThat(permits).hasSize(18);
+        permits.addAll(acquireAll(Priority.CRITICAL));
+        assertThat(permits).hasSize(20);
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+        permits.forEach(AdaptiveConcurrencyLimiter.Permit::release);
+        assertThat(limiter.getInflight()).isZero();
+        assertThat(registry.get("concurrency.limit.rejected").tag("priority", Priority.BULK.tagValue())
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void growsWhileLatencyHoldsSteady() {
+        for (int i = 0; i < 10; i++) {
+            round(limiter.getLimit(), 10);
+        }
+        assertThat(limiter.getLimit()).isGreaterThan(20).isLessThanOrEqualTo(200);
+    }
+
+    @Test
+    void shrinksWhenLatencyRisesButNotBelowTheMinimum() {
+        for (int i = 0; i < 10; i++) {
+            round(limiter.getLimit(), 10);
+        }
+        int steady = limiter.getLimit();
+
+        round(limiter.getLimit(), 100);
+        assertThat(limiter.getLimit()).isLessThan(steady);
+
+        for (int i = 0; i < 50; i++) {
+            round(limiter.getLimit(), 1_000);
+        }
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    void ignoresWindowsWithLittleDemand() {
+        for (int i = 0; i < 20; i++) {
+            round(2, 10);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    private List<AdaptiveConcurrencyLimiter.Permit> acquireAll(Priority priority) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        AdaptiveConcurrencyLimiter.Permit permit;
+        while ((permit = limiter.tryAcquire(priority)) != null) {
+            permits.add(permit);
+        }
+        return permits;
+    }
+
+    // Runs concurrent requests that all take the given latency
+    private void round(int concurrency, long latencyMillis) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            permits.add(limiter.tryAcquire(Priority.CRITICAL));
+        }
+        assertThat(permits).doesNotContainNull();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        permits.forEach(AdaptiveConcurrencyLimiter.Permit::release);
+    }
+}
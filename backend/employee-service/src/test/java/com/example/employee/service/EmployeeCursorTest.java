@@ -0,0 +1,77 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.EmployeeFilter;
+import com.example.employee.entity.Employee;
+import com.example.employee.exception.InvalidCursorException;
+import com.example.employee.repository.EmployeeSortField;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmployeeCursorTest {
+
+    @Test
+    void roundTripsSortOrderAndPosition() {
+        EmployeeFilter filter = filter("Active", "Web Development", 3);
+        String token = EmployeeCursor.after(employee(42L, "O'Brien|Smith"), EmployeeSortField.LAST_NAME, false).encode(filter);
+
+        EmployeeCursor cursor = EmployeeCursor.decode(token, filter("Active", "Web Development", 3));
+
+        assertThat(cursor.getSortField()).isEqualTo(EmployeeSortField.LAST_NAME);
+        assertThat(cursor.isAscending()).isFalse();
+        assertThat(cursor.getLastId()).isEqualTo(42L);
+        // The separator may appear in the sort value itself
+        assertThat(cursor.getTypedLastValue()).isEqualTo("O'Brien|Smith");
+    }
+
+    @Test
+    void parsesTypedValuesForTheSortField() {
+        String token = EmployeeCursor.after(employee(7L, "Doe"), EmployeeSortField.HIRE_DATE, true).encode(new EmployeeFilter());
+
+        assertThat(EmployeeCursor.decode(token, new EmployeeFilter()).getTypedLastValue())
+                .isEqualTo(LocalDate.of(2023, 4, 1));
+    }
+
+    @Test
+    void rejectsACursorUsedWithOtherFilters() {
+        String token = EmployeeCursor.after(employee(1L, "Doe"), EmployeeSortField.EMPLOYEE_ID, true)
+                .encode(filter("Active", null, null));
+
+        assertThatThrownBy(() -> EmployeeCursor.decode(token, filter("Inactive", null, null)))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessageContaining("different filters");
+        assertThatThrownBy(() -> EmployeeCursor.decode(token, filter("Active", null, 5)))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThatThrownBy(() -> EmployeeCursor.decode("not a cursor!", new EmployeeFilter()))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessage("Invalid pagination cursor");
+        String badValue = Base64.getUrlEncoder().encodeToString("HIRE_DATE|A|0|1|yesterday".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> EmployeeCursor.decode(badValue, new EmployeeFilter()))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private static Employee employee(Long id, String lastName) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(id);
+        employee.setLastName(lastName);
+        employee.setHireDate(LocalDate.of(2023, 4, 1));
+        return employee;
+    }
+
+    private static EmployeeFilter filter(String status, String domain, Integer companyId) {
+        EmployeeFilter filter = new EmployeeFilter();
+        filter.setStatus(status);
+        filter.setDomain(domain);
+        filter.setCompanyId(companyId);
+        return filter;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.employee.service;
+
+import com.example.employee.TestEmployees;
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.dto.EmployeeFilter;
+import com.example.employee.entity.Employee;
+import com.example.employee.entity.Skills;
+import com.example.employee.metrics.RequestStatistics;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.SkillsRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards against N+1 loading: listing employees must take the same number of SQL
+ * statements however many employees, and employee_skills rows, there are.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class EmployeeListStatementCountTest {
+
+    private static final int SMALL = 5;
+    private static final List<String> SKILLS = List.of("Java", "Spring Boot", "SQL");
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private SkillsRepository skillsRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void listingAllEmployeesDoesNotGrowWithTheList() {
+        seed(SMALL);
+        int small = statementsFor(() -> assertWithSkills(employeeService.getAllEmployees(), SMALL));
+        seed(SMALL * 10);
+        int large = statementsFor(() -> assertWithSkills(employeeService.getAllEmployees(), SMALL * 10));
+
+        assertThat(small).isPositive();
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void listingAPageDoesNotGrowWithThePageSize() {
+        seed(SMALL * 10);
+        int small = statementsFor(() -> assertWithSkills(employeeService
+                .getEmployeePage(new EmployeeFilter(), SMALL, null, null, null).getContent(), SMALL));
+        int large = statementsFor(() -> assertWithSkills(employeeService
+                .getEmployeePage(new EmployeeFilter(), SMALL * 10, null, null, null).getContent(), SMALL * 10));
+
+        assertThat(small).isPositive();
+        assertThat(large).isEqualTo(small);
+    }
+
+    // Skills are a collection per employee, the usual source of one query per row
+    private void seed(int count) {
+        TestEmployees.reset(jdbcTemplate);
+        List<Skills> skills = SKILLS.stream().map(this::skill).collect(Collectors.toList());
+        List<Long> ids = Stream.iterate(0, i -> i + 1).limit(count)
+                .map(i -> employeeService.createEmployee(TestEmployees.employee(i)).getEmployeeId())
+                .collect(Collectors.toList());
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Employee employee : employeeRepository.findAllById(ids)) {
+                employee.getSkills().addAll(skills);
+            }
+        });
+        assertThat(jdbcTemplate.queryForObject("select count(*) from employee_skills", Integer.class))
+                .isEqualTo(count * SKILLS.size());
+    }
+
+    private Skills skill(String name) {
+        return skillsRepository.findBySkillName(name).orElseGet(() -> {
+            Skills skill = new Skills();
+            skill.setSkillName(name);
+            return skillsRepository.save(skill);
+        });
+    }
+
+    private static void assertWithSkills(List<EmployeeDTO> employees, int count) {
+        assertThat(employees).hasSize(count)
+                .extracting(EmployeeDTO::getSkillsString)
+                .containsOnly("Java, SQL, Spring Boot");
+    }
+
+    private static int statementsFor(Runnable work) {
+        RequestStatistics statistics = RequestStatistics.begin();
+        try {
+            work.run();
+            return statistics.getStatements();
+        } finally {
+            RequestStatistics.end();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.employee.service;
+
+import com.example.employee.TestEmployees;
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.dto.HeadcountDTO;
+import com.example.employee.exception.InvalidRequestException;
+import com.example.employee.index.ManagerHierarchyIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class EmployeeManagerTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ManagerHierarchyIndex hierarchyIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private EmployeeDTO ceo;
+    private EmployeeDTO lead;
+    private EmployeeDTO engineer;
+
+    @BeforeEach
+    void seed() {
+        TestEmployees.reset(jdbcTemplate);
+        hierarchyIndex.rebuild();
+        ceo = employeeService.createEmployee(TestEmployees.employee(0));
+        lead = employeeService.createEmployee(withManager(TestEmployees.employee(1), ceo));
+        engineer = employeeService.createEmployee(withManager(TestEmployees.employee(2), lead));
+    }
+
+    @Test
+    void rejectsAManagerThatReportsToTheEmployee() {
+        assertThatThrownBy(() -> employeeService.updateEmployee(ceo.getEmployeeId(), withManager(ceo, engineer)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasFieldOrPropertyWithValue("field", "managerId");
+        assertThatThrownBy(() -> employeeService.updateEmployee(lead.getEmployeeId(), withManager(lead, lead)))
+                .isInstanceOf(InvalidRequestException.class);
+
+        EmployeeDTO moved = employeeService.updateEmployee(engineer.getEmployeeId(), withManager(engineer, ceo));
+        assertThat(moved.getManagerId()).isEqualTo(ceo.getEmployeeId());
+    }
+
+    @Test
+    void checksTheCycleAgainstTheDatabaseNotTheIndex() {
+        EmployeeDTO other = employeeService.createEmployee(TestEmployees.employee(3));
+        // As if another replica made the change: committed, but this index never saw it
+        jdbcTemplate.update("update employee set manager_id = ? where employee_id = ?",
+                engineer.getEmployeeId(), other.getEmployeeId());
+
+        assertThatThrownBy(() -> employeeService.updateEmployee(ceo.getEmployeeId(), withManager(ceo, other)))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void countsDirectAndIndirectReports() {
+        employeeService.createEmployee(withManager(TestEmployees.employee(3), ceo));
+
+        HeadcountDTO headcount = employeeService.getHeadcount(ceo.getEmployeeId());
+        assertThat(headcount.getDirectReports()).isEqualTo(2);
+        assertThat(headcount.getTotalReports()).isEqualTo(3);
+        assertThat(employeeService.getHeadcount(engineer.getEmployeeId()).getTotalReports()).isZero();
+    }
+
+    private static EmployeeDTO withManager(EmployeeDTO employee, EmployeeDTO manager) {
+        employee.setManagerId(manager.getEmployeeId());
+        return employee;
+    }
+}
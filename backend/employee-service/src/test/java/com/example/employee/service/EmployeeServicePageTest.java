@@ -0,0 +1,62 @@
+package com.example.employee.service;
+
+import com.example.employee.TestEmployees;
+import com.example.employee.dto.CursorPageDTO;
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.dto.EmployeeFilter;
+import com.example.employee.exception.InvalidCursorException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class EmployeeServicePageTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        TestEmployees.reset(jdbcTemplate);
+        for (int i = 0; i < 5; i++) {
+            employeeService.createEmployee(TestEmployees.employee(i));
+        }
+    }
+
+    @Test
+    void continuesWithTheCursorsSortOrder() {
+        CursorPageDTO<EmployeeDTO> first = employeeService.getEmployeePage(new EmployeeFilter(), 2, null, "email", "desc");
+        CursorPageDTO<EmployeeDTO> second = employeeService.getEmployeePage(new EmployeeFilter(), 2, first.getNextCursor(), null, null);
+
+        assertThat(first.getContent()).extracting(EmployeeDTO::getEmail)
+                .containsExactly("employee4@example.com", "employee3@example.com");
+        assertThat(second.getContent()).extracting(EmployeeDTO::getEmail)
+                .containsExactly("employee2@example.com", "employee1@example.com");
+    }
+
+    @Test
+    void rejectsACursorWithAnotherSortOrFilter() {
+        String cursor = employeeService.getEmployeePage(new EmployeeFilter(), 2, null, "email", "asc").getNextCursor();
+
+        assertThatThrownBy(() -> employeeService.getEmployeePage(new EmployeeFilter(), 2, cursor, "lastName", null))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> employeeService.getEmployeePage(new EmployeeFilter(), 2, cursor, null, "desc"))
+                .isInstanceOf(InvalidCursorException.class);
+        EmployeeFilter active = new EmployeeFilter();
+        active.setStatus("Active");
+        assertThatThrownBy(() -> employeeService.getEmployeePage(active, 2, cursor, null, null))
+                .isInstanceOf(InvalidCursorException.class);
+        // Repeating the original sort is fine
+        assertThat(employeeService.getEmployeePage(new EmployeeFilter(), 2, cursor, "email", "asc").getContent()).hasSize(2);
+    }
+}
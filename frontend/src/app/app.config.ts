@@ -11,6 +11,7 @@ import Aura from '@primeuix/themes/aura';
 import { MessageService } from 'primeng/api';
 import { routes } from './app.routes';
 import { authInterceptor } from './core/interceptors/auth.interceptor';
+import { clientIdInterceptor } from './core/interceptors/client-id.interceptor';
 import { errorInterceptor } from './core/interceptors/error.interceptor';
 
 export const appConfig: ApplicationConfig = {
@@ -34,7 +35,7 @@ export const appConfig: ApplicationConfig = {
     }),
 
     // HttpClient with interceptors
-    provideHttpClient(withInterceptors([authInterceptor, errorInterceptor])),
+    provideHttpClient(withInterceptors([authInterceptor, clientIdInterceptor, errorInterceptor])),
 
     // PrimeNG Global Services
     MessageService,
@@ -0,0 +1,12 @@
+import { HttpInterceptorFn } from '@angular/common/http';
+import { environment } from '../../../environments/environment';
+
+// One id per tab, so the backend can route this tab's reads to the primary right after it writes
+const clientId = crypto.randomUUID();
+
+export const clientIdInterceptor: HttpInterceptorFn = (req, next) => {
+  if (req.url.startsWith(environment.apiUrl)) {
+    return next(req.clone({ setHeaders: { 'X-Client-Id': clientId } }));
+  }
+  return next(req);
+};
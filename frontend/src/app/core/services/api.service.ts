@@ -1,4 +1,4 @@
-import { HttpClient, HttpParams } from '@angular/common/http';
+import { HttpClient, HttpHeaders, HttpParams } from '@angular/common/http';
 import { Injectable } from '@angular/core';
 import { Observable } from 'rxjs';
 import { environment } from '../../../environments/environment';
@@ -26,6 +26,12 @@ export class ApiService {
     return this.http.put<T>(`${this.BASE_URL}${endpoint}`, data);
   }
 
+  mergePatch<T>(endpoint: string, patch: any): Observable<T> {
+    return this.http.patch<T>(`${this.BASE_URL}${endpoint}`, patch, {
+      headers: new HttpHeaders({ 'Content-Type': 'application/merge-patch+json' }),
+    });
+  }
+
   delete<T>(
     endPoint: string,
     params?: Record<string, string | number | boolean | string[]>
@@ -24,13 +24,64 @@ export interface Employee {
   status?: 'Active' | 'Inactive';
   createdAt?: Date;
   updatedAt?: Date;
+  version?: number;
 }
 
+// Returned by the list endpoints with ?view=summary
 export interface EmployeeListItem {
   employeeId: number;
   firstName: string;
   lastName: string;
   email: string;
-  designation: string;
-  status: string;
+  domain?: string;
+  status?: 'Active' | 'Inactive';
+  hireDate?: Date;
+  skillsString?: string;
+}
+
+export interface EmployeePageQuery {
+  size?: number;
+  cursor?: string;
+  sort?: 'employeeId' | 'firstName' | 'lastName' | 'email' | 'hireDate';
+  direction?: 'asc' | 'desc';
+  status?: string;
+  domain?: string;
+  companyId?: number;
+}
+
+export interface CursorPage<T> {
+  content: T[];
+  size: number;
+  hasMore: boolean;
+  nextCursor?: string;
+}
+
+export interface OrgNode {
+  employeeId: number;
+  managerId?: number;
+  firstName: string;
+  lastName: string;
+  designationId?: number;
+  depth: number;
+}
+
+export interface Headcount {
+  employeeId: number;
+  directReports: number;
+  totalReports: number;
+}
+
+export type FacetName = 'domain' | 'status' | 'companyId' | 'designationId' | 'skill' | 'skillCategory';
+
+export interface FacetCounts {
+  total: number;
+  facets: Partial<Record<FacetName, Record<string, number>>>;
+}
+
+export interface EmployeeChanges {
+  upserts: Employee[];
+  deletedIds: number[];
+  nextToken?: string;
+  hasMore: boolean;
+  resyncRequired: boolean;
 }
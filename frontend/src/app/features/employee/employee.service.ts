@@ -1,7 +1,7 @@
 import { Inject, Injectable } from '@angular/core';
 import { ApiService } from '../../core/services/api.service';
 import { Observable } from 'rxjs';
-import { Employee } from './employee.model';
+import { CursorPage, Employee, EmployeeChanges, EmployeeListItem, EmployeePageQuery, FacetCounts, FacetName, Headcount, OrgNode } from './employee.model';
 
 @Injectable({
   providedIn: 'root',
@@ -15,6 +15,46 @@ export class EmployeeService {
     return this.apiService.get<Employee[]>(this.baseUrl);
   }
 
+  getEmployeeSummaries(): Observable<EmployeeListItem[]> {
+    return this.apiService.get<EmployeeListItem[]>(this.baseUrl, { view: 'summary' });
+  }
+
+  getEmployeePage(query: EmployeePageQuery = {}): Observable<CursorPage<Employee>> {
+    return this.apiService.get<CursorPage<Employee>>(`${this.baseUrl}/page`, { ...query });
+  }
+
+  typeahead(q: string, limit?: number): Observable<Employee[]> {
+    const params = limit === undefined ? { q } : { q, limit };
+    return this.apiService.get<Employee[]>(`${this.baseUrl}/search`, params);
+  }
+
+  typeaheadSummaries(q: string, limit?: number): Observable<EmployeeListItem[]> {
+    const params = limit === undefined ? { q, view: 'summary' } : { q, limit, view: 'summary' };
+    return this.apiService.get<EmployeeListItem[]>(`${this.baseUrl}/search`, params);
+  }
+
+  getFacetCounts(facets: FacetName[] = [], filter?: string): Observable<FacetCounts> {
+    const params: Record<string, string | string[]> = {};
+    if (facets.length) {
+      params['facets'] = facets.join(',');
+    }
+    if (filter) {
+      params['filter'] = filter;
+    }
+    return this.apiService.get<FacetCounts>(`${this.baseUrl}/facets`, params);
+  }
+
+  getChanges(sinceToken?: string, limit?: number): Observable<EmployeeChanges> {
+    const params: Record<string, string | number> = {};
+    if (sinceToken) {
+      params['sinceToken'] = sinceToken;
+    }
+    if (limit !== undefined) {
+      params['limit'] = limit;
+    }
+    return this.apiService.get<EmployeeChanges>(`${this.baseUrl}/changes`, params);
+  }
+
   getEmployee(id: number): Observable<Employee> {
     return this.apiService.get<Employee>(`${this.baseUrl}/${id}`);
   }
@@ -27,6 +67,11 @@ export class EmployeeService {
     return this.apiService.put<Employee>(`${this.baseUrl}/${id}`, employee);
   }
 
+  // Sends only the changed fields; include version to get a 409 instead of overwriting a concurrent edit
+  patchEmployee(id: number, patch: Partial<Employee>): Observable<Employee> {
+    return this.apiService.mergePatch<Employee>(`${this.baseUrl}/${id}`, patch);
+  }
+
   deleteEmployee(id: number): Observable<void> {
     return this.apiService.delete<void>(`${this.baseUrl}/${id}`);
   }
@@ -35,6 +80,19 @@ export class EmployeeService {
     return this.apiService.get<Employee[]>(`${this.baseUrl}/manager/${managerId}`);
   }
 
+  getReportingTree(id: number, maxDepth?: number): Observable<OrgNode[]> {
+    const params = maxDepth === undefined ? undefined : { maxDepth };
+    return this.apiService.get<OrgNode[]>(`${this.baseUrl}/${id}/reports`, params);
+  }
+
+  getManagerChain(id: number): Observable<OrgNode[]> {
+    return this.apiService.get<OrgNode[]>(`${this.baseUrl}/${id}/managers`);
+  }
+
+  getHeadcount(id: number): Observable<Headcount> {
+    return this.apiService.get<Headcount>(`${this.baseUrl}/${id}/headcount`);
+  }
+
   getEmployeesByCompany(companyId: number): Observable<Employee[]> {
     return this.apiService.get<Employee[]>(`${this.baseUrl}/company/${companyId}`);
   }
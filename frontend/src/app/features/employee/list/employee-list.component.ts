@@ -1,19 +1,21 @@
 import { CommonModule } from '@angular/common';
-import { Component, OnInit } from '@angular/core';
+import { Component, OnDestroy, OnInit } from '@angular/core';
 import { Router } from '@angular/router';
 import { ConfirmationService, MessageService } from 'primeng/api';
 import { ButtonDirective, ButtonModule } from 'primeng/button';
 import { ConfirmDialogModule } from 'primeng/confirmdialog';
+import { InputTextModule } from 'primeng/inputtext';
 import { Table, TableModule } from 'primeng/table';
 import { TagModule } from 'primeng/tag';
 import { ToastModule } from 'primeng/toast';
-import { Employee } from '../employee.model';
+import { EMPTY, Subject, Subscription, catchError, debounceTime, distinctUntilChanged, switchMap } from 'rxjs';
+import { EmployeeListItem } from '../employee.model';
 import { EmployeeService } from '../employee.service';
 
 @Component({
   selector: 'app-employee-list',
   standalone: true,
-  imports: [CommonModule, ButtonModule, TableModule, TagModule, ConfirmDialogModule, ToastModule],
+  imports: [CommonModule, ButtonModule, InputTextModule, TableModule, TagModule, ConfirmDialogModule, ToastModule],
   providers: [ConfirmationService, MessageService],
   template: `
     <div class="p-6">
@@ -28,6 +30,14 @@ import { EmployeeService } from '../employee.service';
         ></button>
       </div>
 
+      <input
+        pInputText
+        type="search"
+        class="w-full mb-4"
+        placeholder="Search by name, email, domain or skill"
+        (input)="onSearch($any($event.target).value)"
+      />
+
       <p-table
         [value]="employees"
         [paginator]="true"
@@ -57,7 +67,7 @@ import { EmployeeService } from '../employee.service';
             <td>{{ employee.email }}</td>
             <td>{{ employee.domain || 'N/A' }}</td>
             <td>
-              <span class="text-sm">{{ (employee.skills || 'N/A') | slice:0:30 }}{{ (employee.skills?.length || 0) > 30 ? '...' : '' }}</span>
+              <span class="text-sm">{{ (employee.skillsString || 'N/A') | slice:0:30 }}{{ (employee.skillsString?.length || 0) > 30 ? '...' : '' }}</span>
             </td>
             <td>
               <p-tag
@@ -106,8 +116,10 @@ import { EmployeeService } from '../employee.service';
     </div>
   `,
 })
-export class EmployeeListComponent implements OnInit {
-  employees: Employee[] = [];
+export class EmployeeListComponent implements OnInit, OnDestroy {
+  employees: EmployeeListItem[] = [];
+  private readonly searchTerms = new Subject<string>();
+  private searchSubscription?: Subscription;
 
   constructor(
     private employeeService: EmployeeService,
@@ -118,10 +130,36 @@ export class EmployeeListComponent implements OnInit {
 
   ngOnInit() {
     this.loadEmployees();
+    this.searchSubscription = this.searchTerms
+      .pipe(
+        debounceTime(150),
+        distinctUntilChanged(),
+        switchMap((q) =>
+          (q ? this.employeeService.typeaheadSummaries(q, 50) : this.employeeService.getEmployeeSummaries()).pipe(
+            catchError(() => {
+              this.messageService.add({
+                severity: 'error',
+                summary: 'Error',
+                detail: 'Search failed',
+              });
+              return EMPTY;
+            })
+          )
+        )
+      )
+      .subscribe((data) => (this.employees = data));
+  }
+
+  ngOnDestroy() {
+    this.searchSubscription?.unsubscribe();
+  }
+
+  onSearch(q: string) {
+    this.searchTerms.next(q.trim());
   }
 
   loadEmployees() {
-    this.employeeService.getEmployees().subscribe({
+    this.employeeService.getEmployeeSummaries().subscribe({
       next: (data) => (this.employees = data),
       error: (error) => {
         this.messageService.add({
@@ -137,19 +175,19 @@ export class EmployeeListComponent implements OnInit {
     this.router.navigate(['/employees/create']);
   }
 
-  viewEmployee(employee: Employee) {
+  viewEmployee(employee: EmployeeListItem) {
     this.router.navigate(['/employees', employee.employeeId]);
   }
 
-  editEmployee(employee: Employee) {
+  editEmployee(employee: EmployeeListItem) {
     this.router.navigate(['/employees', employee.employeeId, 'edit']);
   }
 
-  confirmDelete(employee: Employee) {
+  confirmDelete(employee: EmployeeListItem) {
     this.confirmationService.confirm({
       message: `Are you sure you want to delete ${employee.firstName} ${employee.lastName}?`,
       accept: () => {
-        this.employeeService.deleteEmployee(employee.employeeId!).subscribe({
+        this.employeeService.deleteEmployee(employee.employeeId).subscribe({
           next: () => {
             this.messageService.add({
               severity: 'success',